@@ -0,0 +1,112 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+
+import java.io.File;
+
+/**
+ * libGDX без окна для бенчмарков, которым нужны Gdx.files, текстуры или Box2D:
+ * headless-приложение, GL-заглушка HeadlessGL и файлы из assets.
+ * Каталог assets передаётся свойством assets.dir (см. jmh в core/build.gradle),
+ * файлы, которых там нет (uiskin.json), ищутся в classpath, как на десктопе.
+ */
+public final class BenchmarkGdx {
+
+    private static HeadlessApplication application;
+
+    private BenchmarkGdx() {
+    }
+
+    public static synchronized void init() {
+        if (application != null) return;
+
+        application = new HeadlessApplication(new ApplicationAdapter() {
+        });
+        // Логи создания врагов и т.п. не должны попадать в замер
+        Gdx.app.setLogLevel(Application.LOG_ERROR);
+        Gdx.files = new AssetsFiles(Gdx.files, new File(System.getProperty("assets.dir", "../assets")));
+        HeadlessGL.install();
+    }
+
+    public static TiledMap loadMap(String path) {
+        init();
+        return new TmxMapLoader().load(path);
+    }
+
+    public static TiledMapTileLayer tileLayer(TiledMap map, String name) {
+        TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(name);
+        if (layer == null) throw new IllegalStateException("Слой '" + name + "' не найден");
+        return layer;
+    }
+
+    // Internal-файлы - из каталога assets, а не из рабочего каталога JMH-форка
+    private static final class AssetsFiles implements Files {
+
+        private final Files files;
+        private final File assetsDir;
+
+        AssetsFiles(Files files, File assetsDir) {
+            this.files = files;
+            this.assetsDir = assetsDir;
+        }
+
+        @Override
+        public FileHandle getFileHandle(String path, FileType type) {
+            return type == FileType.Internal ? internal(path) : files.getFileHandle(path, type);
+        }
+
+        @Override
+        public FileHandle classpath(String path) {
+            return files.classpath(path);
+        }
+
+        @Override
+        public FileHandle internal(String path) {
+            File file = new File(assetsDir, path);
+            return file.exists() ? files.absolute(file.getAbsolutePath()) : files.internal(path);
+        }
+
+        @Override
+        public FileHandle external(String path) {
+            return files.external(path);
+        }
+
+        @Override
+        public FileHandle absolute(String path) {
+            return files.absolute(path);
+        }
+
+        @Override
+        public FileHandle local(String path) {
+            return files.local(path);
+        }
+
+        @Override
+        public String getExternalStoragePath() {
+            return files.getExternalStoragePath();
+        }
+
+        @Override
+        public boolean isExternalStorageAvailable() {
+            return files.isExternalStorageAvailable();
+        }
+
+        @Override
+        public String getLocalStoragePath() {
+            return files.getLocalStoragePath();
+        }
+
+        @Override
+        public boolean isLocalStorageAvailable() {
+            return files.isLocalStorageAvailable();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.aminferrr.MyJavaGame;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сохранение статов игрока: старый путь (Statement.executeUpdate со склеенной
+ * строкой, как было в PlayerStats.upgradeStat) против PlayerRepository с
+ * закэшированным PreparedStatement. База - временный файл с теми же
+ * настройками, что у Database (WAL, synchronous=NORMAL).
+ *
+ * concatenatedStatement - старый путь, cachedPreparedStatement - то, что
+ * делает Database при сбросе (PlayerRepository.update), findProfile - поиск
+ * профиля по индексу (name, slot). Больше ops/s - быстрее.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PlayerRepositoryBenchmark {
+
+    private File dbFile;
+    private Connection connection;
+    private PlayerRepository repository;
+    private Database.PlayerRecord record;
+    private int experience = 1000;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        dbFile = File.createTempFile("player-bench", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getAbsolutePath());
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA journal_mode=WAL;");
+            stmt.execute("PRAGMA synchronous=NORMAL;");
+        }
+
+        repository = new PlayerRepository(connection);
+        repository.migrate();
+        repository.insert("Hero", 0);
+        record = repository.find("Hero", 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        repository.close();
+        connection.close();
+        dbFile.delete();
+        new File(dbFile.getPath() + "-wal").delete();
+        new File(dbFile.getPath() + "-shm").delete();
+    }
+
+    @Benchmark
+    public int concatenatedStatement() throws SQLException {
+        experience++;
+        try (Statement stmt = connection.createStatement()) {
+            return stmt.executeUpdate("UPDATE player SET " +
+                "hp=" + record.hp + ", " +
+                "strength=" + record.strength + ", " +
+                "speed=" + record.speed + ", " +
+                "defense=" + record.defense + ", " +
+                "experience=" + experience +
+                " WHERE name='Hero' AND slot=0;");
+        }
+    }
+
+    @Benchmark
+    public void cachedPreparedStatement() throws SQLException {
+        record.experience = ++experience;
+        repository.update(record);
+    }
+
+    @Benchmark
+    public Database.PlayerRecord findProfile() throws SQLException {
+        return repository.find("Hero", 0);
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск врагов в радиусе удара игрока: перебор всех врагов (как было в
+ * PlayingScreen.render) против запроса к SpatialHash. Игрок ходит по карте:
+ * его точки заранее разыграны в setUp, каждый вызов берёт следующую.
+ * moveAll - цена поддержания сетки за кадр (каждый враг немного сдвигается).
+ *
+ * density=constant: карта удлиняется вместе с числом врагов (2 м ширины на
+ * врага при высоте 30 м), так что растёт только их число. Перебор растёт
+ * линейно, запрос к сетке почти не меняется - он зависит от числа врагов
+ * рядом с игроком, а не на уровне.
+ * density=map: все враги на карте размера PlayingMap (200 x 30 м), вместе
+ * с числом растёт плотность, и запрос к сетке дорожает вместе с числом
+ * врагов в радиусе удара - но медленнее перебора.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpatialHashBenchmark {
+
+    private static final float MAP_WIDTH = 200f;
+    private static final float MAP_HEIGHT = 30f;
+    // Ширина карты на одного врага при density=constant: 100 врагов - как раз PlayingMap
+    private static final float WIDTH_PER_ENEMY = 2f;
+    private static final float ATTACK_RANGE = 2.5f;
+    private static final int PROBES = 1024;
+
+    @Param({"10", "100", "1000", "5000"})
+    public int enemyCount;
+
+    // map - все враги на карте PlayingMap, с числом растёт и плотность;
+    // constant - карта удлиняется вместе с числом врагов, плотность одна
+    @Param({"map", "constant"})
+    public String density;
+
+    private Vector2[] positions;
+    private SpatialHash<Vector2> grid;
+    private final Array<Vector2> nearby = new Array<>();
+    private final float[] playerX = new float[PROBES];
+    private final float[] playerY = new float[PROBES];
+    private final Random random = new Random(42);
+    private int probe = 0;
+    private int frame = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        float width = "constant".equals(density) ? enemyCount * WIDTH_PER_ENEMY : MAP_WIDTH;
+        positions = new Vector2[enemyCount];
+        grid = new SpatialHash<>(4f);
+        for (int i = 0; i < enemyCount; i++) {
+            positions[i] = new Vector2(random.nextFloat() * width, random.nextFloat() * MAP_HEIGHT);
+            grid.insert(positions[i], positions[i].x, positions[i].y);
+        }
+        for (int i = 0; i < PROBES; i++) {
+            playerX[i] = random.nextFloat() * width;
+            playerY[i] = random.nextFloat() * MAP_HEIGHT;
+        }
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int i = probe++ & (PROBES - 1);
+        float x = playerX[i];
+        float y = playerY[i];
+        int hits = 0;
+        for (Vector2 enemy : positions) {
+            if (enemy.dst(x, y) <= ATTACK_RANGE) hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int gridQuery() {
+        int i = probe++ & (PROBES - 1);
+        nearby.clear();
+        return grid.query(playerX[i], playerY[i], ATTACK_RANGE, nearby);
+    }
+
+    @Benchmark
+    public int moveAll() {
+        // Как в render(): после update каждого врага его позиция отдаётся в сетку
+        float step = (frame++ & 1) == 0 ? 0.05f : -0.05f;
+        for (Vector2 enemy : positions) {
+            enemy.x += step;
+            grid.move(enemy, enemy.x, enemy.y);
+        }
+        return grid.size();
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Построение коллизий уровня из тайлового слоя, как при входе на уровень:
+ * build - весь TileCollisionBuilder.build (обход слоя, склейка, фикстуры Box2D)
+ * в пустой мир, mergeCells - только жадная склейка по готовой сетке.
+ * level 1 - слой collis карты PlayingMap, level 2 - слой buildings карты map3.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TileCollisionBenchmark {
+
+    private static final float PPM = 16f;
+
+    @Param({"1", "2"})
+    public int level;
+
+    private TiledMap map;
+    private TiledMapTileLayer layer;
+    private boolean[][] solid;
+    private World world;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean first = level == 1;
+        map = BenchmarkGdx.loadMap(first ? LevelAssets.LEVEL_1.mapPath : LevelAssets.LEVEL_2.mapPath);
+        layer = BenchmarkGdx.tileLayer(map, first ? "collis" : "buildings");
+
+        solid = new boolean[layer.getWidth()][layer.getHeight()];
+        for (int x = 0; x < layer.getWidth(); x++) {
+            for (int y = 0; y < layer.getHeight(); y++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                solid[x][y] = cell != null && cell.getTile() != null;
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createWorld() {
+        world = new World(new Vector2(0, -15f), true);
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeWorld() {
+        world.dispose();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        map.dispose();
+    }
+
+    @Benchmark
+    public Body build() {
+        return new TileCollisionBuilder(world, PPM).build(layer);
+    }
+
+    @Benchmark
+    public Array<Rectangle> mergeCells() {
+        return TileCollisionBuilder.mergeCells(solid);
+    }
+}
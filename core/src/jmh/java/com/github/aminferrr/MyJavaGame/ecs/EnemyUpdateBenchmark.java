@@ -0,0 +1,123 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.github.aminferrr.MyJavaGame.BenchmarkGdx;
+import com.github.aminferrr.MyJavaGame.LevelAssets;
+import com.github.aminferrr.MyJavaGame.Player;
+import com.github.aminferrr.MyJavaGame.TileCollisionBuilder;
+import com.github.aminferrr.MyJavaGame.nav.NavGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Кадр врагов на первом уровне: EnemyAISystem (решения через планировщик,
+ * движение, A* по NavGraph) и EnemyAnimationSystem, как engine.update() в
+ * PlayingScreen. Враги создаются через EnemyFactory в точках слоёв enemy/enemy2,
+ * при нехватке точек - со сдвигом по X. aiWithPhysics добавляет шаг Box2D, без
+ * которого враги стоят на месте и решения не меняются.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnemyUpdateBenchmark {
+
+    private static final float PPM = 16f;
+    private static final float STEP = 1f / 60f;
+
+    @Param({"10", "100", "500"})
+    public int enemyCount;
+
+    private TiledMap map;
+    private World world;
+    private Player player;
+    private Engine engine;
+    private EnemyFactory factory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        map = BenchmarkGdx.loadMap(LevelAssets.LEVEL_1.mapPath);
+        world = new World(new Vector2(0, -15f), true);
+
+        TiledMapTileLayer collis = BenchmarkGdx.tileLayer(map, "collis");
+        new TileCollisionBuilder(world, PPM).build(collis);
+        NavGraph nav = NavGraph.build(collis, PPM);
+
+        player = new Player(world);
+        engine = new Engine();
+        engine.addSystem(new EnemyAISystem(player, nav));
+        engine.addSystem(new EnemyAnimationSystem());
+        LevelAssets.LEVEL_1.acquireEnemyAnimations();
+        factory = new EnemyFactory(engine, world);
+
+        Array<Vector2> spawns = new Array<>();
+        Array<String> types = new Array<>();
+        collectSpawns(map.getLayers().get("enemy"), "zapper", spawns, types);
+        collectSpawns(map.getLayers().get("enemy2"), "wheel", spawns, types);
+        for (int i = 0; i < enemyCount; i++) {
+            int spawn = i % spawns.size;
+            float shift = (i / spawns.size) * 1.5f;
+            factory.create(new Vector2(spawns.get(spawn).x + shift, spawns.get(spawn).y), types.get(spawn));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void revivePlayer() {
+        // Враги бьют игрока; мёртвый игрок поменял бы ветки AI
+        player.health = 100;
+        player.alive = true;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ImmutableArray<Entity> enemies = engine.getEntitiesFor(EnemyFactory.ENEMIES);
+        for (int i = enemies.size() - 1; i >= 0; i--) factory.destroy(enemies.get(i));
+        factory.dispose();
+        LevelAssets.LEVEL_1.releaseEnemyAnimations();
+        player.dispose();
+        world.dispose();
+        map.dispose();
+    }
+
+    @Benchmark
+    public int ai() {
+        engine.update(STEP);
+        return engine.getEntities().size();
+    }
+
+    @Benchmark
+    public int aiWithPhysics() {
+        world.step(STEP, 6, 2);
+        engine.update(STEP);
+        return engine.getEntities().size();
+    }
+
+    private static void collectSpawns(MapLayer layer, String defaultType, Array<Vector2> spawns, Array<String> types) {
+        if (layer == null) return;
+        for (MapObject obj : layer.getObjects()) {
+            Float x = obj.getProperties().get("x", Float.class);
+            Float y = obj.getProperties().get("y", Float.class);
+            if (x == null || y == null) continue;
+            spawns.add(new Vector2(x / PPM, y / PPM));
+            types.add(obj.getProperties().get("type", defaultType, String.class));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.aminferrr.MyJavaGame.elements;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.github.aminferrr.MyJavaGame.BenchmarkGdx;
+import com.github.aminferrr.MyJavaGame.Database;
+import com.github.aminferrr.MyJavaGame.input.PlayerInput;
+import com.github.aminferrr.MyJavaGame.maps.GameMapScreen1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Тайловые коллизии игрока на карте хаба (слой builds, как в GameScreen):
+ * isBlockedFeet - четыре пробы углов хитбокса ног в случайных точках карты,
+ * walk - целый update() с зажатыми кнопками, в нём две такие проверки на кадр.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlayerCollisionBenchmark {
+
+    private static final int PROBES = 1024;
+
+    private GameMapScreen1 gameMap;
+    private Player player;
+    private final PlayerInput input = new PlayerInput();
+    private final float[] probeX = new float[PROBES];
+    private final float[] probeY = new float[PROBES];
+    private int probe = 0;
+    private int frame = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkGdx.init();
+        gameMap = new GameMapScreen1();
+        TiledMapTileLayer builds = gameMap.getBuildsLayer();
+
+        player = new Player(new PlayerStats(new Database.PlayerRecord()));
+        player.setCollisionLayer(builds);
+
+        float mapWidth = builds.getWidth() * builds.getTileWidth();
+        float mapHeight = builds.getHeight() * builds.getTileHeight();
+        Random random = new Random(42);
+        for (int i = 0; i < PROBES; i++) {
+            probeX[i] = random.nextFloat() * mapWidth;
+            probeY[i] = random.nextFloat() * mapHeight;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        player.dispose();
+        gameMap.dispose();
+    }
+
+    @Benchmark
+    public boolean isBlockedFeet() {
+        int i = probe++ & (PROBES - 1);
+        return player.isBlockedFeet(probeX[i], probeY[i]);
+    }
+
+    @Benchmark
+    public float walk() {
+        // Ходим зигзагом: раз в секунду меняем направление, упираясь в стены
+        int phase = (frame++ / 60) & 3;
+        input.setButtons(phase == 0 ? PlayerInput.RIGHT | PlayerInput.UP
+            : phase == 1 ? PlayerInput.RIGHT | PlayerInput.DOWN
+            : phase == 2 ? PlayerInput.LEFT | PlayerInput.UP
+            : PlayerInput.LEFT | PlayerInput.DOWN);
+        player.update(1f / 60f, input);
+        return player.getX();
+    }
+}
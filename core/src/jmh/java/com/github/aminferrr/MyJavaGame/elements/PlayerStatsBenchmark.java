@@ -0,0 +1,78 @@
+package com.github.aminferrr.MyJavaGame.elements;
+
+import com.github.aminferrr.MyJavaGame.Database;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PlayerStats поверх Database на временном файле, подписка на сохранение - как в Main.
+ * upgrade - прокачка в памяти (подписчик только помечает запись грязной),
+ * upgradeAndWrite - прокачка и запись на диск, load - чтение слота из SQLite
+ * и загрузка в PlayerStats. selectSlot того же слота - синхронный путь через
+ * поток db-writer: дописывает изменения и перечитывает запись.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlayerStatsBenchmark {
+
+    // Стоимость удваивается с каждой прокачкой; дальше сбрасываем её через load()
+    private static final int MAX_COST = 1 << 20;
+
+    private File dbFile;
+    private Database database;
+    private PlayerStats stats;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dbFile = File.createTempFile("stats-bench", ".db");
+        database = new Database(dbFile.getAbsolutePath());
+        database.insertInitialPlayer("Hero");
+
+        stats = new PlayerStats(database.getPlayer());
+        stats.addListener((s, change) -> {
+            if (change == PlayerStats.Change.LOADED) return;
+            database.savePlayer(s.getHp(), s.getStrength(), s.getSpeed(), s.getDefense(), s.getExperience());
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+        dbFile.delete();
+        new File(dbFile.getPath() + "-wal").delete();
+        new File(dbFile.getPath() + "-shm").delete();
+    }
+
+    @Benchmark
+    public boolean upgrade() {
+        if (stats.getStrengthCost() > MAX_COST) stats.load(database.getPlayer());
+        stats.addExperience(stats.getStrengthCost());
+        return stats.upgradeStrength();
+    }
+
+    @Benchmark
+    public boolean upgradeAndWrite() {
+        boolean upgraded = upgrade();
+        database.selectSlot(database.getCurrentSlot());
+        return upgraded;
+    }
+
+    @Benchmark
+    public int load() {
+        database.selectSlot(database.getCurrentSlot());
+        stats.load(database.getPlayer());
+        return stats.getExperience();
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.aminferrr.MyJavaGame.plot;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.github.aminferrr.MyJavaGame.BenchmarkGdx;
+import com.github.aminferrr.MyJavaGame.Database;
+import com.github.aminferrr.MyJavaGame.elements.Player;
+import com.github.aminferrr.MyJavaGame.elements.PlayerStats;
+import com.github.aminferrr.MyJavaGame.maps.GameMapScreen1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Кадр NPC в хабе, как в GameScreen: патрульный NPC ходит с проверкой тайлов,
+ * затем проверяется, рядом ли игрок с NPC для разговора.
+ * playerFar - кнопка Talk скрыта, playerNearNpc - игрок у Лизы, кнопка
+ * показывается и переставляется каждый кадр.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NPCHandlerBenchmark {
+
+    private GameMapScreen1 gameMap;
+    private Stage stage;
+    private Skin skin;
+    private Player player;
+    private NPCHandler handler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkGdx.init();
+        gameMap = new GameMapScreen1();
+        stage = new Stage(new ScreenViewport());
+        skin = new Skin(Gdx.files.internal("uiskin.json"));
+        player = new Player(new PlayerStats(new Database.PlayerRecord()));
+        player.setCollisionLayer(gameMap.getBuildsLayer());
+        handler = new NPCHandler(stage, skin, gameMap.getBuildsLayer(), player);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        handler.dispose();
+        player.dispose();
+        skin.dispose();
+        stage.dispose();
+        gameMap.dispose();
+    }
+
+    @Benchmark
+    public boolean playerFar() {
+        player.setPosition(600f, 60f);
+        handler.update(1f / 60f, player);
+        return handler.isDialogueActive();
+    }
+
+    @Benchmark
+    public boolean playerNearNpc() {
+        player.setPosition(300f, 60f);
+        handler.update(1f / 60f, player);
+        return handler.isDialogueActive();
+    }
+}
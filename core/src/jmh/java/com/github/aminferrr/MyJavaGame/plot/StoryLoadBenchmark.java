@@ -0,0 +1,58 @@
+package com.github.aminferrr.MyJavaGame.plot;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.OrderedMap;
+import com.github.aminferrr.MyJavaGame.BenchmarkGdx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Загрузка сюжета. parseJson - разбор всего story.json через Json (рефлексия по
+ * DialogueLine), так сюжет читается без story.bin. openCompiled - то, что делает
+ * каждый DialogueManager при создании: таблица блоков story.bin. readBlock - чтение
+ * одного блока при начале разговора. story.bin собирается из story.json в setUp.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoryLoadBenchmark {
+
+    private FileHandle storyFile;
+    private Story compiled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkGdx.init();
+        storyFile = Gdx.files.internal(Story.JSON_PATH);
+
+        FileHandle bin = Gdx.files.absolute(System.getProperty("java.io.tmpdir")).child("story-bench.bin");
+        StoryCompiler.compile(storyFile, bin);
+        bin.file().deleteOnExit();
+        compiled = Story.open(bin);
+    }
+
+    @Benchmark
+    public OrderedMap<String, Array<DialogueManager.DialogueLine>> parseJson() {
+        return Story.parseJson(storyFile);
+    }
+
+    @Benchmark
+    public Story openCompiled() {
+        return Story.open(compiled.getFile());
+    }
+
+    @Benchmark
+    public Array<DialogueManager.DialogueLine> readBlock() {
+        return compiled.getBlock("story3");
+    }
+}
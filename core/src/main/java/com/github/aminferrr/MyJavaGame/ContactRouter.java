@@ -0,0 +1,68 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.Manifold;
+
+/**
+ * ContactListener с таблицей обработчиков по паре FixtureType.
+ * Обработчик регистрируется для пары (first, second) и всегда получает
+ * фикстуры в этом порядке, как бы их ни упорядочил Box2D.
+ * Пары без обработчика отбрасываются одной проверкой массива.
+ */
+public class ContactRouter implements ContactListener {
+
+    public interface Handler {
+        void begin(Contact contact, Fixture first, Fixture second);
+
+        default void end(Contact contact, Fixture first, Fixture second) {
+        }
+    }
+
+    private static final int TYPES = FixtureType.values().length;
+
+    private final Handler[][] handlers = new Handler[TYPES][TYPES];
+    // true - фикстуры надо поменять местами перед вызовом обработчика
+    private final boolean[][] swapped = new boolean[TYPES][TYPES];
+
+    public ContactRouter on(FixtureType first, FixtureType second, Handler handler) {
+        handlers[first.ordinal()][second.ordinal()] = handler;
+        swapped[first.ordinal()][second.ordinal()] = false;
+        if (first != second) {
+            handlers[second.ordinal()][first.ordinal()] = handler;
+            swapped[second.ordinal()][first.ordinal()] = true;
+        }
+        return this;
+    }
+
+    @Override
+    public void beginContact(Contact contact) {
+        dispatch(contact, true);
+    }
+
+    @Override
+    public void endContact(Contact contact) {
+        dispatch(contact, false);
+    }
+
+    private void dispatch(Contact contact, boolean begin) {
+        Fixture a = contact.getFixtureA();
+        Fixture b = contact.getFixtureB();
+        FixtureType typeA = FixtureType.of(a.getUserData());
+        FixtureType typeB = FixtureType.of(b.getUserData());
+        if (typeA == null || typeB == null) return;
+
+        Handler handler = handlers[typeA.ordinal()][typeB.ordinal()];
+        if (handler == null) return;
+
+        Fixture first = swapped[typeA.ordinal()][typeB.ordinal()] ? b : a;
+        Fixture second = first == a ? b : a;
+        if (begin) handler.begin(contact, first, second);
+        else handler.end(contact, first, second);
+    }
+
+    @Override public void preSolve(Contact contact, Manifold oldManifold) {}
+    @Override public void postSolve(Contact contact, ContactImpulse impulse) {}
+}
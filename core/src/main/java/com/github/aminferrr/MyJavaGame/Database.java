@@ -1,92 +1,292 @@
 package com.github.aminferrr.MyJavaGame;
 
+import com.badlogic.gdx.utils.IntArray;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Единственное подключение к player.db на всё приложение (создаётся в Main).
+ *
+ * Вся работа с диском идёт в отдельном потоке "db-writer". Экраны читают и
+ * меняют запись игрока в памяти, изменения помечают её грязной, а поток
+ * раз в FLUSH_INTERVAL_MS (и при смене экрана, см. Main.setScreen) пишет
+ * последнее состояние одним UPDATE. Десять убийств между сбросами - одна запись.
+ * SQL и схема - в PlayerRepository; здесь выбранный профиль и слот сохранения.
+ */
 public class Database {
 
-    private static final String DB_URL = "jdbc:sqlite:player.db";
+    private static final String DEFAULT_FILE = "player.db";
+    private static final String DEFAULT_NAME = "Hero";
+    private static final long FLUSH_INTERVAL_MS = 2000;
+
     private Connection connection;
+    private PlayerRepository repository;
+
+    // Сколько соединений сейчас открыто - для поиска утечек (ScreenManager).
+    // Меняется в потоке db-writer, читается из потока отрисовки
+    private final AtomicInteger openConnections = new AtomicInteger();
+
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "db-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Запись игрока в памяти. Поля меняются только под lock. */
+    public static final class PlayerRecord {
+        public String name;
+        public int slot;
+        public int hp = 100;
+        public int strength = 0;
+        public int speed = 20;
+        public int defense = 0;
+        public int experience = 1000;
+
+        private PlayerRecord copy() {
+            PlayerRecord r = new PlayerRecord();
+            r.name = name;
+            r.slot = slot;
+            r.hp = hp;
+            r.strength = strength;
+            r.speed = speed;
+            r.defense = defense;
+            r.experience = experience;
+            return r;
+        }
+    }
+
+    private final Object lock = new Object();
+    private PlayerRecord player;   // null - игрока в базе нет
+    private String profileName = DEFAULT_NAME;
+    private int slot = 0;
+    private boolean dirty = false;
+    private boolean closed = false;
 
     public Database() {
-        try {
-            // Подключаем драйвер SQLite
-            Class.forName("org.sqlite.JDBC");
-            connection = DriverManager.getConnection(DB_URL);
-            System.out.println("Connected to SQLite database!");
-            createPlayerTable();
-        } catch (ClassNotFoundException | SQLException e) {
-            e.printStackTrace();
+        this(DEFAULT_FILE);
+    }
+
+    /** file - путь к файлу базы (бенчмарк открывает временную, чтобы не трогать сохранения). */
+    public Database(String file) {
+        String url = "jdbc:sqlite:" + file;
+        // Открытие и первое чтение - один раз при старте, поэтому ждём результата
+        runAndWait(() -> {
+            try {
+                // Подключаем драйвер SQLite
+                Class.forName("org.sqlite.JDBC");
+                connection = DriverManager.getConnection(url);
+                openConnections.incrementAndGet();
+                System.out.println("Connected to SQLite database!");
+
+                try (Statement stmt = connection.createStatement()) {
+                    // WAL: запись не блокирует чтение, synchronous=NORMAL - без fsync на каждый коммит
+                    stmt.execute("PRAGMA journal_mode=WAL;");
+                    stmt.execute("PRAGMA synchronous=NORMAL;");
+                }
+                repository = new PlayerRepository(connection);
+                repository.migrate();
+                loadPlayer();
+            } catch (ClassNotFoundException | SQLException e) {
+                e.printStackTrace();
+            }
+        });
+
+        writer.scheduleWithFixedDelay(this::writeDirty, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void loadPlayer() throws SQLException {
+        String name;
+        int currentSlot;
+        synchronized (lock) {
+            name = profileName;
+            currentSlot = slot;
+        }
+        PlayerRecord record = repository.find(name, currentSlot);
+        synchronized (lock) {
+            player = record;
+            dirty = false;
         }
     }
 
-    private void createPlayerTable() {
-        String sql = """
-            CREATE TABLE IF NOT EXISTS player (
-                id INTEGER PRIMARY KEY AUTOINCREMENT,
-                name TEXT NOT NULL,
-                hp INTEGER DEFAULT 100,
-                strength INTEGER DEFAULT 0,
-                speed INTEGER DEFAULT 20,
-                defense INTEGER DEFAULT 0,
-                experience INTEGER DEFAULT 1000
-            );
-            """;
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute(sql);
-            System.out.println("Table 'player' created or already exists.");
-        } catch (SQLException e) {
-            e.printStackTrace();
+    // ===== Чтение и изменение (из потока отрисовки, без обращения к диску) =====
+
+    /** Копия записи игрока или null, если игрока ещё нет. */
+    public PlayerRecord getPlayer() {
+        synchronized (lock) {
+            return player != null ? player.copy() : null;
+        }
+    }
+
+    // проверка наличия игрока
+    public boolean checkPlayerExists() {
+        synchronized (lock) {
+            return player != null;
         }
     }
 
     // публичный метод для вставки игрока
     public void insertInitialPlayer(String name) {
-        String sql = "INSERT INTO player (name) SELECT '" + name + "' " +
-            "WHERE NOT EXISTS (SELECT 1 FROM player WHERE name = '" + name + "');";
-        try (Statement stmt = connection.createStatement()) {
-            stmt.executeUpdate(sql);
-            System.out.println("Initial player inserted: " + name);
-        } catch (SQLException e) {
-            e.printStackTrace();
+        int currentSlot;
+        synchronized (lock) {
+            if (player != null) return;
+            profileName = name;
+            currentSlot = slot;
+            player = new PlayerRecord();
+            player.name = name;
+            player.slot = currentSlot;
         }
+        writer.execute(() -> {
+            try {
+                repository.insert(name, currentSlot);
+                System.out.println("Initial player inserted: " + name + " (slot " + currentSlot + ")");
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        });
     }
 
-    // проверка наличия игрока
-    public boolean checkPlayerExists() {
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM player;")) {
-            if (rs.next()) return rs.getInt(1) > 0;
-        } catch (SQLException e) {
-            e.printStackTrace();
+    /** Сохраняет статы игрока; на диск попадут при ближайшем сбросе. */
+    public void savePlayer(int hp, int strength, int speed, int defense, int experience) {
+        synchronized (lock) {
+            if (player == null) return;
+            player.hp = hp;
+            player.strength = strength;
+            player.speed = speed;
+            player.defense = defense;
+            player.experience = experience;
+            dirty = true;
         }
-        return false;
     }
 
-    public void close() {
+    /** Новая игра в текущем слоте: остальные слоты не трогаются. */
+    public void resetCurrentSlot() {
+        String name;
+        int currentSlot;
+        synchronized (lock) {
+            name = profileName;
+            currentSlot = slot;
+            player = new PlayerRecord();
+            player.name = name;
+            player.slot = currentSlot;
+            dirty = false;
+        }
+        writer.execute(() -> {
+            try {
+                repository.delete(name, currentSlot);
+                repository.insert(name, currentSlot);
+                System.out.println("Slot " + currentSlot + " reset for " + name);
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    public int getCurrentSlot() {
+        synchronized (lock) {
+            return slot;
+        }
+    }
+
+    /**
+     * Переключает слот сохранения: дописывает текущий и читает новый.
+     * Ждёт поток записи, поэтому вызывать только из меню, не во время игры.
+     */
+    public void selectSlot(int newSlot) {
+        runAndWait(() -> {
+            writeDirty();
+            synchronized (lock) {
+                slot = newSlot;
+            }
+            try {
+                loadPlayer();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /** Занятые слоты текущего профиля (для меню, ждёт поток записи). */
+    public IntArray listSlots() {
+        IntArray slots = new IntArray();
+        String name;
+        synchronized (lock) {
+            name = profileName;
+        }
+        runAndWait(() -> {
+            try {
+                slots.addAll(repository.listSlots(name));
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        });
+        return slots;
+    }
+
+    // ===== Запись на диск (поток db-writer) =====
+
+    /** Просит поток записи сбросить изменения сейчас, не дожидаясь таймера. */
+    public void flush() {
+        if (!writer.isShutdown()) writer.execute(this::writeDirty);
+    }
+
+    private void writeDirty() {
+        PlayerRecord snapshot;
+        synchronized (lock) {
+            if (!dirty || player == null) return;
+            snapshot = player.copy();
+            dirty = false;
+        }
+
         try {
-            if (connection != null) connection.close();
+            repository.update(snapshot);
         } catch (SQLException e) {
             e.printStackTrace();
+            synchronized (lock) {
+                dirty = true; // попробуем при следующем сбросе
+            }
         }
     }
 
-    public void resetPlayerTable() {
-        try (Statement stmt = connection.createStatement()) {
-            stmt.executeUpdate("DROP TABLE IF EXISTS player;");
-            System.out.println("Player table dropped.");
-            createPlayerTable(); // создаем заново
-            insertInitialPlayer("Hero"); // добавляем начального игрока
-            System.out.println("Player table recreated with initial player.");
-        } catch (SQLException e) {
-            e.printStackTrace();
+    /** Дописывает всё, что накопилось, и закрывает соединение (Main.dispose). */
+    public void close() {
+        synchronized (lock) {
+            if (closed) return;
+            closed = true;
         }
+        runAndWait(() -> {
+            writeDirty();
+            try {
+                if (repository != null) repository.close();
+                if (connection != null && !connection.isClosed()) {
+                    connection.close();
+                    openConnections.decrementAndGet();
+                }
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        });
+        writer.shutdown();
+    }
+
+    public int getOpenConnectionCount() {
+        return openConnections.get();
     }
 
-    public Connection getConnection() {
-        return connection;
+    private void runAndWait(Runnable task) {
+        try {
+            writer.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
     }
 }
@@ -0,0 +1,85 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.github.aminferrr.MyJavaGame.ecs.Mappers;
+import com.github.aminferrr.MyJavaGame.ecs.SleepingComponent;
+
+/**
+ * Включает врагов рядом с камерой и усыпляет дальних. Усыплённый враг помечен
+ * SleepingComponent - системы ИИ, анимации и отрисовки его не видят, а его тело
+ * выключено (body.setActive(false)) и не участвует в шаге Box2D. Так цена
+ * кадра зависит от врагов на экране, а не от населения всего уровня.
+ *
+ * Враг просыпается, когда входит в рамку камеры плюс margin, и засыпает,
+ * только выйдя ещё на HYSTERESIS дальше - на границе он не мигает каждый кадр.
+ * Вызывать из render(), не во время world.step().
+ */
+public class EnemyActivator {
+
+    // Запас между рамкой пробуждения и рамкой засыпания, в метрах
+    private static final float HYSTERESIS = 2f;
+
+    private final float margin;
+    private final Rectangle wakeBounds = new Rectangle();
+    private final Rectangle sleepBounds = new Rectangle();
+    private int activeCount = 0;
+
+    /** margin - сколько метров за краем экрана враги ещё живут (успевают подойти из-за кадра). */
+    public EnemyActivator(float margin) {
+        this.margin = margin;
+    }
+
+    public void update(OrthographicCamera camera, ImmutableArray<Entity> enemies) {
+        float halfW = camera.viewportWidth * camera.zoom / 2f;
+        float halfH = camera.viewportHeight * camera.zoom / 2f;
+        float x = camera.position.x;
+        float y = camera.position.y;
+
+        setBounds(wakeBounds, x, y, halfW + margin, halfH + margin);
+        setBounds(sleepBounds, x, y, halfW + margin + HYSTERESIS, halfH + margin + HYSTERESIS);
+
+        activeCount = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            Entity enemy = enemies.get(i);
+            Vector2 pos = Mappers.body.get(enemy).body.getPosition();
+
+            if (isActive(enemy)) {
+                if (!sleepBounds.contains(pos)) setActive(enemy, false);
+            } else if (wakeBounds.contains(pos)) {
+                setActive(enemy, true);
+            }
+            if (isActive(enemy)) activeCount++;
+        }
+    }
+
+    public static boolean isActive(Entity enemy) {
+        return !Mappers.sleeping.has(enemy);
+    }
+
+    private static void setActive(Entity enemy, boolean active) {
+        Body body = Mappers.body.get(enemy).body;
+        body.setActive(active);
+        if (active) {
+            enemy.remove(SleepingComponent.class);
+            body.setAwake(true);
+            // Тело стояло на месте - интерполировать не от чего
+            Mappers.transform.get(enemy).reset(body.getPosition());
+        } else {
+            enemy.add(new SleepingComponent());
+        }
+    }
+
+    /** Сколько врагов было активно после последнего update() (для debug-лога). */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    private static void setBounds(Rectangle rect, float x, float y, float halfW, float halfH) {
+        rect.set(x - halfW, y - halfH, halfW * 2f, halfH * 2f);
+    }
+}
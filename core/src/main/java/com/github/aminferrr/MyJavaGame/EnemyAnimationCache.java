@@ -0,0 +1,170 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Общий кэш анимаций врагов по типу.
+ * Каждый спрайт-лист грузится в GPU один раз, а все враги одного типа
+ * делят одни и те же Animation. Экран уровня берёт наборы своих типов через
+ * acquire() в show() и отдаёт через release() в dispose() (см. LevelAssets),
+ * враги только одалживают набор через get(). Когда ссылок на тип не осталось,
+ * листы набора возвращаются в SpriteAtlas - гибель врагов их не выгружает.
+ */
+public final class EnemyAnimationCache {
+
+    public static final class AnimationSet {
+        public Animation<TextureRegion> idle;
+        public Animation<TextureRegion> run;
+        public Animation<TextureRegion> attack;
+        public Animation<TextureRegion> death;
+
+        // Один файл может использоваться в нескольких анимациях (Wheel: idle и run)
+        private final ObjectMap<String, TextureRegion> sheets = new ObjectMap<>();
+        private int refCount = 0;
+
+        private void dispose() {
+            for (String path : sheets.keys()) SpriteAtlas.release(path);
+            sheets.clear();
+        }
+    }
+
+    private static final Map<EnemyType, AnimationSet> sets = new EnumMap<>(EnemyType.class);
+
+    private EnemyAnimationCache() {
+    }
+
+    public static AnimationSet acquire(EnemyType type) {
+        AnimationSet set = sets.get(type);
+        if (set == null) {
+            set = load(type);
+            sets.put(type, set);
+        }
+        set.refCount++;
+        return set;
+    }
+
+    /** Уже взятый кем-то набор, ссылку не добавляет; null, если тип никто не держит. */
+    public static AnimationSet get(EnemyType type) {
+        return sets.get(type);
+    }
+
+    public static void release(EnemyType type) {
+        AnimationSet set = sets.get(type);
+        if (set == null) return;
+
+        set.refCount--;
+        if (set.refCount <= 0) {
+            set.dispose();
+            sets.remove(type);
+            Gdx.app.log("ENEMY", "Анимации " + type + " выгружены");
+        }
+    }
+
+    // Сколько спрайт-листов врагов сейчас загружено - для отладки утечек
+    public static int getLoadedSheetCount() {
+        int count = 0;
+        for (AnimationSet set : sets.values()) count += set.sheets.size;
+        return count;
+    }
+
+    private static AnimationSet load(EnemyType type) {
+        AnimationSet set = new AnimationSet();
+        String basePath = "characters/droids/";
+
+        try {
+            if (type == EnemyType.ZAPPER) {
+                basePath += "Toaster Bot/";
+                set.idle = createHorizontalAnimation(set, basePath + "idle.png", 106, 22, 0.15f);
+                set.run = createHorizontalAnimation(set, basePath + "run.png", 106, 22, 0.10f);
+                set.attack = createHorizontalAnimation(set, basePath + "attack.png", 106, 22, 0.10f);
+                set.death = createHorizontalAnimation(set, basePath + "death.png", 106, 22, 0.10f);
+            } else if (type == EnemyType.WHEEL) {
+                basePath += "Wheel Bot/";
+                set.idle = createHorizontalAnimation(set, basePath + "move 112x26.png", 112, 26, 0.12f);
+                set.run = createHorizontalAnimation(set, basePath + "move 112x26.png", 112, 26, 0.08f);
+                set.attack = createHorizontalAnimation(set, basePath + "shoot 112x26.png", 112, 26, 0.08f);
+                set.death = createHorizontalAnimation(set, basePath + "death 112x26.png", 112, 26, 0.10f);
+            } else if (type == EnemyType.MUD_GUARD) {
+                // Mud Guard - ВЕРТИКАЛЬНЫЙ спрайт-лист, 7 кадров сверху вниз
+                basePath += "Mud Guard/";
+                int frameWidth = 82;
+                int frameHeight = 23;
+
+                set.idle = createVerticalAnimation(set, basePath + "idle.png", frameWidth, frameHeight, 7, 0.16f);
+                set.run = createVerticalAnimation(set, basePath + "Run.png", frameWidth, frameHeight, 7, 0.10f);
+                set.attack = createVerticalAnimation(set, basePath + "attack 1.png", frameWidth, frameHeight, 7, 0.10f);
+                set.death = createVerticalAnimation(set, basePath + "damaged and death.png", frameWidth, frameHeight, 7, 0.12f);
+            } else if (type == EnemyType.STORMHEAD) {
+                basePath += "stormhead/";
+                set.idle = createHorizontalAnimation(set, basePath + "idle.png", 119, 124, 0.16f);
+                set.run = createHorizontalAnimation(set, basePath + "run.png", 119, 124, 0.10f);
+                set.attack = createHorizontalAnimation(set, basePath + "attack.png", 119, 124, 0.10f);
+                set.death = createHorizontalAnimation(set, basePath + "death.png", 119, 124, 0.12f);
+            } else {
+                basePath += "shield droid/";
+                set.idle = createHorizontalAnimation(set, basePath + "static idle.png", 32, 32, 0.15f);
+                set.run = createHorizontalAnimation(set, basePath + "walk.png", 32, 32, 0.1f);
+                set.attack = createHorizontalAnimation(set, basePath + "shock attack.png", 32, 32, 0.1f);
+                set.death = createHorizontalAnimation(set, basePath + "hit and death.png", 32, 32, 0.1f);
+            }
+
+            Gdx.app.log("ENEMY", "Анимации загружены для " + type + " (листов: " + set.sheets.size + ")");
+        } catch (Exception e) {
+            Gdx.app.error("ENEMY", "Ошибка загрузки анимаций для " + type + ": " + e.getMessage());
+        }
+        return set;
+    }
+
+    private static TextureRegion getSheet(AnimationSet set, String filePath) {
+        TextureRegion sheet = set.sheets.get(filePath);
+        if (sheet == null) {
+            sheet = SpriteAtlas.acquire(filePath);
+            set.sheets.put(filePath, sheet);
+        }
+        return sheet;
+    }
+
+    // Для горизонтальных спрайт-листов (кадры идут слева направо)
+    private static Animation<TextureRegion> createHorizontalAnimation(AnimationSet set, String filePath,
+                                                                      int frameWidth, int frameHeight, float frameDuration) {
+        try {
+            Array<TextureRegion> frames = new Array<>();
+            TextureRegion sheet = getSheet(set, filePath);
+            int frameCount = sheet.getRegionWidth() / frameWidth;
+
+            for (int i = 0; i < frameCount; i++) {
+                frames.add(new TextureRegion(sheet, i * frameWidth, 0, frameWidth, frameHeight));
+            }
+
+            return new Animation<>(frameDuration, frames);
+        } catch (Exception e) {
+            Gdx.app.error("ENEMY", "Не удалось загрузить " + filePath);
+            return null;
+        }
+    }
+
+    // Для вертикальных спрайт-листов (кадры идут сверху вниз)
+    private static Animation<TextureRegion> createVerticalAnimation(AnimationSet set, String filePath,
+                                                                    int frameWidth, int frameHeight, int frameCount, float frameDuration) {
+        try {
+            Array<TextureRegion> frames = new Array<>();
+            TextureRegion sheet = getSheet(set, filePath);
+
+            for (int i = 0; i < frameCount; i++) {
+                frames.add(new TextureRegion(sheet, 0, i * frameHeight, frameWidth, frameHeight));
+            }
+
+            return new Animation<>(frameDuration, frames);
+        } catch (Exception e) {
+            Gdx.app.error("ENEMY", "Не удалось загрузить " + filePath);
+            return null;
+        }
+    }
+}
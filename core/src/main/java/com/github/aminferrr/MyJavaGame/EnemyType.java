@@ -0,0 +1,45 @@
+package com.github.aminferrr.MyJavaGame;
+
+/**
+ * Типы врагов и их данные: хитбокс, размер спрайта, летает ли.
+ * Системы врагов (пакет ecs) читают эти поля вместо проверок "if (type == ...)",
+ * поэтому новый тип - это новая строка здесь и анимации в EnemyAnimationCache.
+ */
+public enum EnemyType {
+    //         имя в карте  летает  хитбокс (полуразмеры, м)  спрайт (px)
+    ZAPPER(    "zapper",    true,   -0.2f, -0.2f,              106, 22),   // Toaster Bot - совсем маленький хитбокс
+    SHIELD(    "shield",    false,  0.3f, 0.4f,                16, 32),    // 1 x 2 метра
+    WHEEL(     "wheel",     true,   -0.2f, -0.2f,              112, 26),   // Wheel Bot
+    MUD_GUARD( "mud",       false,  0.3f, 0.8f,                48, 24),    // лист вертикальный, кадр кладём боком
+    STORMHEAD( "stormhead", true,   0.5f, 0.6f,                119, 124);
+
+    private static final float PPM = 16f;
+    private static final EnemyType[] VALUES = values();
+
+    private final String type;
+    public final boolean flying;
+    public final float hitboxHalfWidth;
+    public final float hitboxHalfHeight;
+    public final float spriteWidth;   // в метрах
+    public final float spriteHeight;
+
+    EnemyType(String type, boolean flying, float hitboxHalfWidth, float hitboxHalfHeight,
+              int spriteWidthPx, int spriteHeightPx) {
+        this.type = type;
+        this.flying = flying;
+        this.hitboxHalfWidth = hitboxHalfWidth;
+        this.hitboxHalfHeight = hitboxHalfHeight;
+        this.spriteWidth = spriteWidthPx / PPM;
+        this.spriteHeight = spriteHeightPx / PPM;
+    }
+
+    public String getType() { return type; }
+
+    /** Тип по свойству "type" объекта на карте; неизвестные имена - SHIELD, как раньше. */
+    public static EnemyType fromName(String name) {
+        for (EnemyType value : VALUES) {
+            if (value.type.equals(name)) return value;
+        }
+        return SHIELD;
+    }
+}
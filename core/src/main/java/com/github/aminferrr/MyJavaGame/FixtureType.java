@@ -0,0 +1,40 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+
+/**
+ * Тип фикстуры Box2D. Кладётся в fixture.setUserData() вместо строк
+ * ("player", "foot", ...), чтобы ContactRouter находил обработчик по ordinal(),
+ * без equals() и без выделения памяти.
+ *
+ * category/mask - фильтр столкновений Box2D: пары, которых нет в масках друг
+ * друга, отсекаются ещё в broadphase и не доходят до narrowphase и решателя.
+ * Враги не сталкиваются друг с другом, ноги игрока видят только мир.
+ */
+public enum FixtureType {
+    //          category  mask: с кем сталкивается
+    PLAYER(     0x0001,   0x0004 | 0x0008 | 0x0010), // враги, мир, триггеры
+    PLAYER_FOOT(0x0002,   0x0008),                   // только мир
+    ENEMY(      0x0004,   0x0001 | 0x0008),          // игрок, мир
+    WORLD(      0x0008,   0x0001 | 0x0002 | 0x0004), // игрок, ноги, враги
+    TRIGGER(    0x0010,   0x0001);                   // только игрок
+
+    public final short category;
+    public final short mask;
+
+    FixtureType(int category, int mask) {
+        this.category = (short) category;
+        this.mask = (short) mask;
+    }
+
+    /** Проставляет категорию и маску в FixtureDef перед body.createFixture(). */
+    public void applyTo(FixtureDef def) {
+        def.filter.categoryBits = category;
+        def.filter.maskBits = mask;
+    }
+
+    /** Тип фикстуры или null, если user data не FixtureType. */
+    public static FixtureType of(Object userData) {
+        return userData instanceof FixtureType ? (FixtureType) userData : null;
+    }
+}
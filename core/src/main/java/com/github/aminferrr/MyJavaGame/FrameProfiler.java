@@ -0,0 +1,423 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Замер цены кадра: время и выделения памяти по фазам (физика, враги, карта,
+ * спрайты, UI), вызовы отрисовки и привязки текстур (GLProfiler), выделения
+ * потоком отрисовки за кадр и работа GC. В установившемся кадре у фаз без
+ * мусора (UI с HudLabel) счётчик выделений - 0 байт. Показывается оверлеем
+ * в углу экрана и при желании пишется в CSV по строке на кадр - для разбора
+ * в таблице.
+ *
+ * Пока оверлей скрыт, CSV не пишется и итоги не собираются (setCollecting),
+ * begin()/end() ничего не делают, а GLProfiler выключен - в обычной игре
+ * профайлер ничего не стоит.
+ */
+public class FrameProfiler implements Disposable {
+
+    public enum Phase {
+        PHYSICS("physics"),
+        ENEMIES("enemies"),
+        MAP("map"),
+        SPRITES("sprites"),
+        UI("ui");
+
+        final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    // Как часто обновлять текст оверлея (средние за этот отрезок)
+    private static final float OVERLAY_INTERVAL = 0.5f;
+
+    private final GLProfiler glProfiler = new GLProfiler(Gdx.graphics);
+    private final JvmMetrics jvm = JvmMetrics.create();
+
+    private boolean overlayVisible = false;
+    private boolean collecting = false;
+    private boolean enabled = false;
+    private boolean glProfiling = false;
+
+    // Текущий кадр
+    private final long[] phaseStart = new long[PHASES.length];
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final long[] phaseAllocStart = new long[PHASES.length];
+    private final long[] phaseAllocated = new long[PHASES.length];
+    private long lastFrameEnd = 0;
+    private long frameIndex = 0;
+    private long lastAllocated = -1;
+    private long lastGcCount = 0;
+    private long lastGcTime = 0;
+
+    // Накопленное для оверлея
+    private int windowFrames = 0;
+    private long windowFrameNanos = 0;
+    private long windowMaxFrameNanos = 0;
+    private final long[] windowPhaseNanos = new long[PHASES.length];
+    private final long[] windowPhaseAllocated = new long[PHASES.length];
+    private long windowBatchCalls = 0;
+    private long windowDrawCalls = 0;
+    private long windowTextureBindings = 0;
+    private long windowShaderSwitches = 0;
+    private long windowAllocated = 0;
+    private long windowGcCount = 0;
+    private long windowGcTime = 0;
+    private float windowTime = 0f;
+
+    // Итоги с последнего resetTotals() - для бенчмарка
+    private long totalFrames = 0;
+    private final long[] totalPhaseNanos = new long[PHASES.length];
+    private final long[] totalPhaseAllocated = new long[PHASES.length];
+    private long totalAllocated = 0;
+    private long totalGcCount = 0;
+    private long totalGcTime = 0;
+
+    private final StringBuilder text = new StringBuilder(256);
+    private SpriteBatch overlayBatch;
+    private BitmapFont font;
+
+    private Writer csv;
+    private FileHandle csvFile;
+
+    // ===== Включение =====
+
+    public void setOverlayVisible(boolean visible) {
+        overlayVisible = visible;
+        updateEnabled();
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    /** Копить итоги по всем кадрам (getTotal...), даже без оверлея и CSV. */
+    public void setCollecting(boolean collecting) {
+        this.collecting = collecting;
+        updateEnabled();
+    }
+
+    private void updateEnabled() {
+        boolean wanted = overlayVisible || collecting || csv != null;
+        if (wanted == enabled) return;
+        enabled = wanted;
+        if (enabled) {
+            // Без настоящего GL (headless-бенчмарк) перехватывать нечего
+            glProfiling = Gdx.graphics.getGL20() != null;
+            if (glProfiling) {
+                glProfiler.enable();
+                glProfiler.reset();
+            }
+            lastFrameEnd = 0;
+            // Новая точка отсчёта: иначе первый кадр после включения получит
+            // выделения и сборки мусора за всё время, пока профайлер был выключен
+            lastAllocated = -1;
+            if (jvm != null) {
+                lastGcCount = jvm.gcCount();
+                lastGcTime = jvm.gcTimeMillis();
+            }
+            resetWindow();
+        } else if (glProfiling) {
+            glProfiler.disable();
+            glProfiling = false;
+        }
+    }
+
+    // ===== Замер фаз =====
+
+    public void begin(Phase phase) {
+        if (!enabled) return;
+        if (jvm != null) phaseAllocStart[phase.ordinal()] = jvm.allocatedBytes();
+        phaseStart[phase.ordinal()] = TimeUtils.nanoTime();
+    }
+
+    public void end(Phase phase) {
+        if (!enabled) return;
+        phaseNanos[phase.ordinal()] += TimeUtils.nanoTime() - phaseStart[phase.ordinal()];
+        // Счётчик потока сам не выделяет память, так что замер её не искажает
+        if (jvm != null) phaseAllocated[phase.ordinal()] += jvm.allocatedBytes() - phaseAllocStart[phase.ordinal()];
+    }
+
+    /**
+     * Закрывает кадр: снимает счётчики, копит их для оверлея и пишет строку CSV.
+     * Вызывать в конце render(), после всей отрисовки кадра.
+     */
+    public void endFrame(int batchRenderCalls) {
+        if (!enabled) return;
+        long now = TimeUtils.nanoTime();
+        // Первый кадр после включения меряем по delta libGDX
+        long frameNanos = lastFrameEnd != 0 ? now - lastFrameEnd : (long) (Gdx.graphics.getDeltaTime() * 1_000_000_000L);
+        lastFrameEnd = now;
+
+        int drawCalls = 0;
+        int textureBindings = 0;
+        int shaderSwitches = 0;
+        if (glProfiling) {
+            drawCalls = glProfiler.getDrawCalls();
+            textureBindings = glProfiler.getTextureBindings();
+            shaderSwitches = glProfiler.getShaderSwitches();
+            glProfiler.reset();
+        }
+
+        long allocated = 0;
+        long gcCount = 0;
+        long gcTime = 0;
+        if (jvm != null) {
+            long totalAllocated = jvm.allocatedBytes();
+            if (totalAllocated >= 0 && lastAllocated >= 0) allocated = totalAllocated - lastAllocated;
+            lastAllocated = totalAllocated;
+            long totalGcCount = jvm.gcCount();
+            long totalGcTime = jvm.gcTimeMillis();
+            if (frameIndex > 0) {
+                gcCount = totalGcCount - lastGcCount;
+                gcTime = totalGcTime - lastGcTime;
+            }
+            lastGcCount = totalGcCount;
+            lastGcTime = totalGcTime;
+        }
+
+        if (csv != null) {
+            writeCsvRow(frameNanos, batchRenderCalls, drawCalls, textureBindings, shaderSwitches,
+                allocated, gcCount, gcTime);
+        }
+
+        windowFrames++;
+        windowFrameNanos += frameNanos;
+        windowMaxFrameNanos = Math.max(windowMaxFrameNanos, frameNanos);
+        for (int i = 0; i < PHASES.length; i++) {
+            windowPhaseNanos[i] += phaseNanos[i];
+            totalPhaseNanos[i] += phaseNanos[i];
+            windowPhaseAllocated[i] += phaseAllocated[i];
+            totalPhaseAllocated[i] += phaseAllocated[i];
+            phaseNanos[i] = 0;
+            phaseAllocated[i] = 0;
+        }
+        totalFrames++;
+        totalAllocated += allocated;
+        totalGcCount += gcCount;
+        totalGcTime += gcTime;
+        windowBatchCalls += batchRenderCalls;
+        windowDrawCalls += drawCalls;
+        windowTextureBindings += textureBindings;
+        windowShaderSwitches += shaderSwitches;
+        windowAllocated += allocated;
+        windowGcCount += gcCount;
+        windowGcTime += gcTime;
+        windowTime += frameNanos / 1_000_000_000f;
+        frameIndex++;
+
+        if (windowTime >= OVERLAY_INTERVAL) {
+            buildText();
+            resetWindow();
+        }
+    }
+
+    private void resetWindow() {
+        windowFrames = 0;
+        windowFrameNanos = 0;
+        windowMaxFrameNanos = 0;
+        for (int i = 0; i < PHASES.length; i++) {
+            windowPhaseNanos[i] = 0;
+            windowPhaseAllocated[i] = 0;
+        }
+        windowBatchCalls = 0;
+        windowDrawCalls = 0;
+        windowTextureBindings = 0;
+        windowShaderSwitches = 0;
+        windowAllocated = 0;
+        windowGcCount = 0;
+        windowGcTime = 0;
+        windowTime = 0f;
+    }
+
+    // ===== Итоги =====
+
+    public void resetTotals() {
+        totalFrames = 0;
+        for (int i = 0; i < PHASES.length; i++) {
+            totalPhaseNanos[i] = 0;
+            totalPhaseAllocated[i] = 0;
+        }
+        totalAllocated = 0;
+        totalGcCount = 0;
+        totalGcTime = 0;
+    }
+
+    public long getTotalFrames() { return totalFrames; }
+
+    public long getTotalNanos(Phase phase) { return totalPhaseNanos[phase.ordinal()]; }
+
+    /** Байт выделено потоком отрисовки за кадры итогов; -1, если JVM этого не считает. */
+    public long getTotalAllocatedBytes() { return jvm != null && lastAllocated >= 0 ? totalAllocated : -1; }
+
+    /** Байт выделено внутри фазы за кадры итогов; -1, если JVM этого не считает. */
+    public long getTotalAllocatedBytes(Phase phase) {
+        return jvm != null && lastAllocated >= 0 ? totalPhaseAllocated[phase.ordinal()] : -1;
+    }
+
+    public long getTotalGcCount() { return totalGcCount; }
+
+    public long getTotalGcMillis() { return totalGcTime; }
+
+    // ===== Оверлей =====
+
+    private void buildText() {
+        int frames = Math.max(1, windowFrames);
+        text.setLength(0);
+        text.append("FPS ").append(Gdx.graphics.getFramesPerSecond()).append("  frame ");
+        appendMillionths(windowFrameNanos / frames);
+        text.append(" ms (max ");
+        appendMillionths(windowMaxFrameNanos);
+        text.append(")\n");
+
+        for (int i = 0; i < PHASES.length; i++) {
+            text.append(PHASES[i].label).append(' ');
+            appendMillionths(windowPhaseNanos[i] / frames);
+            text.append(i < PHASES.length - 1 ? "  " : " ms\n");
+        }
+
+        text.append("batch ").append(windowBatchCalls / frames)
+            .append("  draw calls ").append(windowDrawCalls / frames)
+            .append("  tex binds ").append(windowTextureBindings / frames)
+            .append("  shaders ").append(windowShaderSwitches / frames).append('\n');
+
+        if (jvm != null) {
+            text.append("alloc ").append(windowAllocated / frames).append(" B/frame (");
+            appendMillionths((long) (windowAllocated / Math.max(windowTime, 0.001f))); // байт/с -> МБ/с
+            text.append(" MB/s)  gc ").append(windowGcCount).append(" (").append(windowGcTime).append(" ms)\n");
+            for (int i = 0; i < PHASES.length; i++) {
+                text.append(PHASES[i].label).append(' ').append(windowPhaseAllocated[i] / frames);
+                text.append(i < PHASES.length - 1 ? "  " : " B/frame\n");
+            }
+        } else {
+            text.append("alloc/gc: n/a\n");
+        }
+
+        if (csv != null) text.append("CSV: ").append(csvFile.path()).append('\n');
+        else text.append("F9 - CSV\n");
+    }
+
+    /** Дробное value / 1_000_000 с одним знаком, без String.format. */
+    private void appendMillionths(long value) {
+        long tenths = value / 100_000;
+        text.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    /** Рисует оверлей поверх кадра в экранных пикселях (после endFrame). */
+    public void drawOverlay() {
+        if (!overlayVisible) return;
+        if (overlayBatch == null) {
+            overlayBatch = new SpriteBatch();
+            font = new BitmapFont();
+            font.setColor(Color.YELLOW);
+        }
+        overlayBatch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        overlayBatch.begin();
+        font.draw(overlayBatch, text, 10, Gdx.graphics.getHeight() - 40);
+        overlayBatch.end();
+        // Сам оверлей в счётчики следующего кадра не попадает
+        if (glProfiling) glProfiler.reset();
+    }
+
+    // ===== CSV =====
+
+    /** Начинает или заканчивает запись CSV; возвращает true, если запись идёт. */
+    public boolean toggleCsv() {
+        if (csv != null) {
+            stopCsv();
+        } else {
+            startCsv(Gdx.files.local("profile/frames-" + TimeUtils.millis() + ".csv"));
+        }
+        return csv != null;
+    }
+
+    public void startCsv(FileHandle file) {
+        stopCsv();
+        try {
+            csv = new BufferedWriter(file.writer(false, "UTF-8"), 64 * 1024);
+            csv.write("frame,frame_us");
+            for (Phase phase : PHASES) csv.write("," + phase.label + "_us");
+            for (Phase phase : PHASES) csv.write("," + phase.label + "_alloc_bytes");
+            csv.write(",batch_calls,draw_calls,texture_bindings,shader_switches,alloc_bytes,gc_count,gc_ms\n");
+            csvFile = file;
+            Gdx.app.log("PROFILER", "Пишем кадры в " + file.path());
+        } catch (Exception e) {
+            Gdx.app.error("PROFILER", "Не удалось открыть " + file.path(), e);
+            csv = null;
+        }
+        updateEnabled();
+    }
+
+    public void stopCsv() {
+        if (csv == null) return;
+        try {
+            csv.close();
+            Gdx.app.log("PROFILER", "CSV сохранён: " + csvFile.path());
+        } catch (IOException e) {
+            Gdx.app.error("PROFILER", "Ошибка при закрытии CSV", e);
+        }
+        csv = null;
+        csvFile = null;
+        updateEnabled();
+    }
+
+    private void writeCsvRow(long frameNanos, int batchCalls, int drawCalls, int textureBindings,
+                             int shaderSwitches, long allocated, long gcCount, long gcTime) {
+        try {
+            csv.write(Long.toString(frameIndex));
+            csv.write(',');
+            csv.write(Long.toString(frameNanos / 1000));
+            for (int i = 0; i < PHASES.length; i++) {
+                csv.write(',');
+                csv.write(Long.toString(phaseNanos[i] / 1000));
+            }
+            for (int i = 0; i < PHASES.length; i++) {
+                csv.write(',');
+                csv.write(Long.toString(phaseAllocated[i]));
+            }
+            csv.write(',');
+            csv.write(Integer.toString(batchCalls));
+            csv.write(',');
+            csv.write(Integer.toString(drawCalls));
+            csv.write(',');
+            csv.write(Integer.toString(textureBindings));
+            csv.write(',');
+            csv.write(Integer.toString(shaderSwitches));
+            csv.write(',');
+            csv.write(Long.toString(allocated));
+            csv.write(',');
+            csv.write(Long.toString(gcCount));
+            csv.write(',');
+            csv.write(Long.toString(gcTime));
+            csv.write('\n');
+        } catch (IOException e) {
+            Gdx.app.error("PROFILER", "Ошибка записи CSV", e);
+            stopCsv();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        // disable() у GLProfiler без проверки снимает перехватчик - зовём его только через updateEnabled()
+        overlayVisible = false;
+        collecting = false;
+        stopCsv();
+        updateEnabled();
+        if (overlayBatch != null) overlayBatch.dispose();
+        if (font != null) font.dispose();
+    }
+}
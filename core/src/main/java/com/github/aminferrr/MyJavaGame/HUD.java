@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.CharArray;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 public class HUD {
@@ -11,6 +12,10 @@ public class HUD {
     private BitmapFont font;
     private Viewport viewport;
 
+    // Текст здоровья пересобирается только при смене значения
+    private final CharArray hpText = new CharArray(16);
+    private int shownHealth = Integer.MIN_VALUE;
+
     public HUD(Viewport viewport) {
         this.viewport = viewport;
         shapeRenderer = new ShapeRenderer();
@@ -45,7 +50,12 @@ public class HUD {
 
         // Рисуем текст
         batch.begin();
-        font.draw(batch, "HP: " + player.health, 15, viewport.getWorldHeight() - 15);
+        if (player.health != shownHealth) {
+            shownHealth = player.health;
+            hpText.clear();
+            hpText.append("HP: ").append(shownHealth);
+        }
+        font.draw(batch, hpText, 15, viewport.getWorldHeight() - 15);
 
         // Подсказки по управлению
         font.draw(batch, "A/D - движение", 10, 80);
@@ -0,0 +1,48 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.CharArray;
+
+/**
+ * Метка HUD вида "HP: 75/100" или "Score: 40", которую можно обновлять каждый кадр.
+ * Помнит показанные числа: пока они не изменились, set() ничего не делает, а при
+ * изменении текст собирается в один и тот же буфер без новых строк, и только тогда
+ * Label перестраивает глифы.
+ */
+public class HudLabel {
+
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private final Label label;
+    private final String prefix;
+    private final CharArray text = new CharArray(32);
+    private int value = NONE;
+    private int max = NONE;
+
+    public HudLabel(String prefix, Skin skin) {
+        this.prefix = prefix;
+        this.label = new Label(prefix, skin);
+    }
+
+    public Label getLabel() {
+        return label;
+    }
+
+    /** "prefix value" */
+    public void set(int value) {
+        set(value, NONE);
+    }
+
+    /** "prefix value/max"; max == Integer.MIN_VALUE - без "/max". */
+    public void set(int value, int max) {
+        if (value == this.value && max == this.max) return;
+        this.value = value;
+        this.max = max;
+
+        text.clear();
+        text.append(prefix).append(value);
+        if (max != NONE) text.append('/').append(max);
+        label.setText(text);
+    }
+}
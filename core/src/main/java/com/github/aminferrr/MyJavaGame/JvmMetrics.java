@@ -0,0 +1,66 @@
+package com.github.aminferrr.MyJavaGame;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * Счётчики JVM для FrameProfiler: сколько байт выделил поток отрисовки и
+ * сколько раз / сколько миллисекунд работали сборщики мусора.
+ *
+ * java.lang.management есть только на десктопе, поэтому класс отдельный и
+ * создаётся через create() - на Android он просто не загружается.
+ */
+final class JvmMetrics {
+
+    private final com.sun.management.ThreadMXBean threads; // null - JVM не считает выделения
+    private final List<GarbageCollectorMXBean> collectors;
+    private final long threadId;
+
+    private JvmMetrics() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocations = null;
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            allocations = (com.sun.management.ThreadMXBean) bean;
+            if (allocations.isThreadAllocatedMemorySupported()) {
+                allocations.setThreadAllocatedMemoryEnabled(true);
+            } else {
+                allocations = null;
+            }
+        }
+        this.threads = allocations;
+        this.collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    /** null, если платформа не даёт java.lang.management (Android). Вызывать из потока отрисовки. */
+    static JvmMetrics create() {
+        try {
+            return new JvmMetrics();
+        } catch (LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Байт выделено потоком отрисовки с его запуска, -1 - неизвестно. */
+    long allocatedBytes() {
+        return threads != null ? threads.getThreadAllocatedBytes(threadId) : -1;
+    }
+
+    long gcCount() {
+        long count = 0;
+        for (int i = 0; i < collectors.size(); i++) {
+            count += Math.max(0, collectors.get(i).getCollectionCount());
+        }
+        return count;
+    }
+
+    long gcTimeMillis() {
+        long time = 0;
+        for (int i = 0; i < collectors.size(); i++) {
+            time += Math.max(0, collectors.get(i).getCollectionTime());
+        }
+        return time;
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+
+/**
+ * Список ресурсов уровня, которые заранее грузятся через AssetManager
+ * (LoadingScreen), чтобы show() экрана не подвешивал окно.
+ * Тайлсеты карты AssetManager подтягивает сам как зависимости .tmx.
+ * Ресурсами владеет AssetManager: экран уровня их не dispose'ит, а вызывает unload().
+ */
+public final class LevelAssets {
+
+    public static final String SKIN = "uiskin.json";
+
+    public static final String ATTACK_SOUND = "audio/sounds/attack.mp3";
+    public static final String JUMP_SOUND = "audio/sounds/jump.mp3";
+    public static final String ENEMY_DEATH_SOUND = "audio/sounds/enemy_death.mp3";
+    public static final String PLAYER_HURT_SOUND = "audio/sounds/player_hurt.mp3";
+
+    public static final LevelAssets LEVEL_1 = new LevelAssets("Level 1",
+        "maps/mapAsset2/PlayingMap.tmx", "audio/music/soundtrack.mp3",
+        EnemyType.ZAPPER, EnemyType.WHEEL);
+    public static final LevelAssets LEVEL_2 = new LevelAssets("Level 2",
+        "maps/mapAsset2/map3.tmx", "audio/music/1bgmu.mp3",
+        EnemyType.ZAPPER, EnemyType.WHEEL);
+
+    // Тот же порядок, что у кнопок в GameScreen.createLevelsWindow()
+    private static final LevelAssets[] ORDER = {LEVEL_1, LEVEL_2};
+
+    public final String name;
+    public final String mapPath;
+    public final String musicPath;
+    // Типы врагов со слоёв карты - их анимации можно подготовить заранее
+    public final EnemyType[] enemyTypes;
+
+    // Музыка необязательна: проверяется один раз, отсутствующий файл не ставится в очередь
+    private boolean musicChecked = false;
+    private boolean musicPresent = false;
+
+    private LevelAssets(String name, String mapPath, String musicPath, EnemyType... enemyTypes) {
+        this.name = name;
+        this.mapPath = mapPath;
+        this.musicPath = musicPath;
+        this.enemyTypes = enemyTypes;
+    }
+
+    /** Уровень по имени (как в записи ввода) или null. */
+    public static LevelAssets forName(String name) {
+        for (LevelAssets level : ORDER) {
+            if (level.name.equals(name)) return level;
+        }
+        return null;
+    }
+
+    /** Следующий уровень по порядку или null, если этот последний. */
+    public LevelAssets next() {
+        for (int i = 0; i < ORDER.length - 1; i++) {
+            if (ORDER[i] == this) return ORDER[i + 1];
+        }
+        return null;
+    }
+
+    public void queue(AssetManager assets) {
+        assets.load(mapPath, TiledMap.class);
+        if (hasMusic()) assets.load(musicPath, Music.class);
+        assets.load(ATTACK_SOUND, Sound.class);
+        assets.load(JUMP_SOUND, Sound.class);
+        assets.load(ENEMY_DEATH_SOUND, Sound.class);
+        assets.load(PLAYER_HURT_SOUND, Sound.class);
+        assets.load(SKIN, Skin.class);
+    }
+
+    // Каждому queue() соответствует один unload(): AssetManager считает ссылки
+    public void unload(AssetManager assets) {
+        unloadIfQueued(assets, mapPath);
+        unloadIfQueued(assets, musicPath);
+        unloadIfQueued(assets, ATTACK_SOUND);
+        unloadIfQueued(assets, JUMP_SOUND);
+        unloadIfQueued(assets, ENEMY_DEATH_SOUND);
+        unloadIfQueued(assets, PLAYER_HURT_SOUND);
+        unloadIfQueued(assets, SKIN);
+    }
+
+    /**
+     * Анимации врагов уровня. Экран уровня берёт их в show() до создания врагов
+     * и отдаёт в dispose(), враги между этим только одалживают наборы.
+     */
+    public void acquireEnemyAnimations() {
+        for (EnemyType type : enemyTypes) EnemyAnimationCache.acquire(type);
+    }
+
+    public void releaseEnemyAnimations() {
+        for (EnemyType type : enemyTypes) EnemyAnimationCache.release(type);
+    }
+
+    private boolean hasMusic() {
+        if (!musicChecked) {
+            musicChecked = true;
+            musicPresent = Gdx.files.internal(musicPath).exists();
+            if (!musicPresent) Gdx.app.error("LOAD", "Нет файла " + musicPath + ", " + name + " без музыки");
+        }
+        return musicPresent;
+    }
+
+    /** Ресурс, если он загрузился, иначе null (ошибка уже записана в лог из Main). */
+    public static <T> T getOrNull(AssetManager assets, String path, Class<T> type) {
+        return assets.isLoaded(path, type) ? assets.get(path, type) : null;
+    }
+
+    private static void unloadIfQueued(AssetManager assets, String path) {
+        if (assets.contains(path)) assets.unload(path);
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Фоновая подгрузка следующего уровня, пока игрок проходит текущий.
+ * Карта, тайлсеты и звуки ставятся в очередь того же AssetManager, а update()
+ * каждый кадр отдаёт ему несколько миллисекунд: файлы читаются в потоке
+ * AssetManager, в кадре остаётся только загрузка текстур в GPU.
+ * Анимации врагов следующего уровня берутся из EnemyAnimationCache по одному типу за кадр.
+ *
+ * Держим не больше одного уровня. Когда LoadingScreen доходит до этого уровня,
+ * ресурсы уже загружены, он ставит свои ссылки и вызывает handOver() -
+ * ссылки префетчера снимаются, а ресурсы остаются за экраном уровня.
+ */
+public class LevelPrefetcher {
+
+    // Сколько миллисекунд кадра можно потратить на фоновую загрузку
+    private static final int UPDATE_BUDGET_MS = 2;
+
+    private final AssetManager assets;
+
+    private LevelAssets level;
+    private int acquiredEnemyTypes = 0;
+    private boolean ready = false;
+    private long startTime;
+
+    public LevelPrefetcher(AssetManager assets) {
+        this.assets = assets;
+    }
+
+    /** Начинает подгружать уровень; ранее подгруженный другой уровень отпускается. */
+    public void prefetch(LevelAssets next) {
+        if (next == level) return;
+        release();
+        if (next == null) return;
+
+        level = next;
+        ready = false;
+        startTime = TimeUtils.millis();
+        level.queue(assets);
+        Gdx.app.log("PREFETCH", "Фоновая загрузка " + level.name);
+    }
+
+    /** Вызывается из render() экранов, пока идёт игра. */
+    public void update() {
+        if (level == null || ready) return;
+
+        if (acquiredEnemyTypes < level.enemyTypes.length) {
+            EnemyAnimationCache.acquire(level.enemyTypes[acquiredEnemyTypes]);
+            acquiredEnemyTypes++;
+            return;
+        }
+
+        if (assets.update(UPDATE_BUDGET_MS)) {
+            ready = true;
+            Gdx.app.log("PREFETCH", level.name + " готов за " + TimeUtils.timeSinceMillis(startTime) + " мс");
+        }
+    }
+
+    public boolean isReady(LevelAssets target) {
+        return target == level && ready && assets.isLoaded(target.mapPath, TiledMap.class);
+    }
+
+    /**
+     * Экран уровня уже взял свои ссылки на ресурсы - префетчер свои отпускает.
+     * Для другого уровня ничего не делает.
+     */
+    public void handOver(LevelAssets target) {
+        if (target == level) release();
+    }
+
+    /** Отпускает подгруженный уровень: AssetManager выгрузит то, что больше никому не нужно. */
+    public void release() {
+        if (level == null) return;
+
+        for (int i = 0; i < acquiredEnemyTypes; i++) {
+            EnemyAnimationCache.release(level.enemyTypes[i]);
+        }
+        level.unload(assets);
+
+        level = null;
+        acquiredEnemyTypes = 0;
+        ready = false;
+    }
+}
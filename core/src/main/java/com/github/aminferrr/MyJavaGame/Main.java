@@ -2,12 +2,108 @@ package com.github.aminferrr.MyJavaGame;
 
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.github.aminferrr.MyJavaGame.elements.PlayerStats;
 import com.github.aminferrr.MyJavaGame.screens.FirstScreen; // <- важный импорт
 
 public class Main extends Game {
 
+    // Общий менеджер ресурсов: карты, музыка, звуки и скин уровней грузятся через него
+    private AssetManager assetManager;
+    private LevelPrefetcher levelPrefetcher;
+    private ScreenManager screenManager;
+    // Одно соединение с player.db на всё приложение, запись в фоновом потоке
+    private Database database;
+    private PlayerStats playerStats;
+
     @Override
     public void create() {
-        setScreen(new FirstScreen(this));
+        assetManager = new AssetManager();
+        assetManager.setLoader(TiledMap.class, new TmxMapLoader(new InternalFileHandleResolver()));
+        // Отсутствующий файл (например, музыка) не должен ронять загрузку уровня
+        assetManager.setErrorListener((asset, throwable) ->
+            Gdx.app.error("ASSETS", "Не удалось загрузить " + asset.fileName + ": " + throwable.getMessage()));
+        levelPrefetcher = new LevelPrefetcher(assetManager);
+        screenManager = new ScreenManager(this);
+        database = createDatabase();
+        playerStats = new PlayerStats(database.getPlayer());
+        // Сохранение - такой же подписчик, как UI: база пишется только когда статы изменились
+        playerStats.addListener((stats, change) -> {
+            if (change == PlayerStats.Change.LOADED) return;
+            database.savePlayer(stats.getHp(), stats.getStrength(), stats.getSpeed(),
+                stats.getDefense(), stats.getExperience());
+        });
+
+        setScreen(createFirstScreen());
+    }
+
+    // Точки расширения для запуска без окна (бенчмарк с записью ввода)
+    protected Database createDatabase() {
+        return new Database();
+    }
+
+    protected Screen createFirstScreen() {
+        return new FirstScreen(this);
+    }
+
+    // Предыдущий экран не теряется: ScreenManager либо оставляет его (хаб), либо dispose'ит
+    @Override
+    public void setScreen(Screen screen) {
+        Screen previous = getScreen();
+        super.setScreen(screen);
+        screenManager.onShown(screen);
+        screenManager.onHidden(previous, screen);
+        // Уход с экрана - хороший момент дописать накопленное, не дожидаясь таймера
+        if (database != null) database.flush();
+    }
+
+    @Override
+    public void render() {
+        super.render();
+        screenManager.disposePending();
+    }
+
+    public AssetManager getAssetManager() {
+        return assetManager;
+    }
+
+    public LevelPrefetcher getLevelPrefetcher() {
+        return levelPrefetcher;
+    }
+
+    public Database getDatabase() {
+        return database;
+    }
+
+    public PlayerStats getPlayerStats() {
+        return playerStats;
+    }
+
+    /** Создаёт игрока в базе, если его ещё нет, и возвращает общие статы. */
+    public PlayerStats ensurePlayer(String name) {
+        if (!database.checkPlayerExists()) {
+            database.insertInitialPlayer(name);
+            playerStats.load(database.getPlayer());
+        }
+        return playerStats;
+    }
+
+    public ScreenManager getScreenManager() {
+        return screenManager;
+    }
+
+    @Override
+    public void dispose() {
+        // Game.dispose() только прячет текущий экран, освобождает их ScreenManager
+        super.dispose();
+        if (screenManager != null) screenManager.dispose();
+        if (database != null) database.close();
+        if (levelPrefetcher != null) levelPrefetcher.release();
+        if (assetManager != null) assetManager.dispose();
     }
 }
@@ -0,0 +1,35 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Замер времени по фазам загрузки: каждый mark() пишет в лог,
+ * сколько заняла фаза с предыдущей отметки, finish() - общее время.
+ */
+public class PhaseTimer {
+
+    private final String tag;
+    private final long start;
+    private long last;
+
+    public PhaseTimer(String tag) {
+        this.tag = tag;
+        this.start = TimeUtils.nanoTime();
+        this.last = start;
+    }
+
+    public void mark(String phase) {
+        long now = TimeUtils.nanoTime();
+        Gdx.app.log(tag, phase + ": " + format(now - last) + " мс");
+        last = now;
+    }
+
+    public void finish() {
+        Gdx.app.log(tag, "Всего: " + format(TimeUtils.nanoTime() - start) + " мс");
+    }
+
+    private static String format(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000f);
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.physics.box2d.World;
+
+/**
+ * Шаг физики с фиксированным dt через аккумулятор.
+ * Симуляция идёт с одной скоростью на 60 Гц и на 144 Гц мониторе,
+ * а после подвисания догоняет не больше MAX_STEPS шагов за кадр.
+ * Остаток времени отдаётся в getAlpha() для интерполяции отрисовки.
+ */
+public class PhysicsStepper {
+
+    public static final float STEP = 1 / 60f;
+    private static final int VELOCITY_ITERATIONS = 6;
+    private static final int POSITION_ITERATIONS = 2;
+
+    // Больше шагов за кадр не делаем, иначе медленный кадр порождает ещё более медленный
+    private static final int MAX_STEPS = 5;
+    // Дельта после долгого подвисания (перетаскивание окна, дебаггер) обрезается
+    private static final float MAX_FRAME_TIME = 0.25f;
+
+    private final World world;
+    private float accumulator = 0f;
+
+    public PhysicsStepper(World world) {
+        this.world = world;
+    }
+
+    /**
+     * Прогоняет столько фиксированных шагов, сколько накопилось с прошлого кадра.
+     * beforeStep вызывается перед каждым шагом - там сохраняются предыдущие позиции тел.
+     * Возвращает число сделанных шагов.
+     */
+    public int update(float delta, Runnable beforeStep) {
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+
+        int steps = 0;
+        while (accumulator >= STEP && steps < MAX_STEPS) {
+            if (beforeStep != null) beforeStep.run();
+            world.step(STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+            accumulator -= STEP;
+            steps++;
+        }
+
+        // Не смогли догнать - выбрасываем долг, чтобы не копить его бесконечно
+        if (steps == MAX_STEPS && accumulator >= STEP) {
+            accumulator %= STEP;
+        }
+        return steps;
+    }
+
+    /** Доля следующего шага, уже прошедшая по реальному времени (0..1). */
+    public float getAlpha() {
+        return accumulator / STEP;
+    }
+
+    public void reset() {
+        accumulator = 0f;
+    }
+}
@@ -2,7 +2,6 @@ package com.github.aminferrr.MyJavaGame;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound; // ВАЖНО: добавить импорт!
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -25,6 +24,10 @@ public class Player {
     private float spawnY = 15f;
     private Vector2 velocity = new Vector2(); // Для респавна
 
+    // ИНТЕРПОЛЯЦИЯ МЕЖДУ ШАГАМИ ФИЗИКИ
+    private final Vector2 prevPosition = new Vector2();
+    private final Vector2 renderPosition = new Vector2();
+
     // АНИМАЦИИ
     private Animation<TextureRegion> idleAnim;
     private Animation<TextureRegion> runRightAnim;
@@ -33,9 +36,11 @@ public class Player {
     private Animation<TextureRegion> attackLeftAnim;
     private float stateTime = 0f;
 
-    // ТЕКСТУРЫ
-    private Texture moveSheet;
-    private Texture attackSheet;
+    // ТЕКСТУРЫ (из общего атласа спрайтов)
+    private static final String MOVE_SHEET_PATH = "characters/player/walking.png";
+    private static final String ATTACK_SHEET_PATH = "characters/player/attack.png";
+    private TextureRegion moveSheet;
+    private TextureRegion attackSheet;
 
     // РАЗМЕРЫ
     private static final float PPM = 16f;
@@ -73,6 +78,7 @@ public class Player {
     public Player(World world) {
         createBody(world);
         loadAnimations();
+        resetInterpolation();
     }
 
     private void createBody(World world) {
@@ -93,8 +99,9 @@ public class Player {
         mainFixtureDef.friction = 0.5f;
         mainFixtureDef.restitution = 0f;
 
+        FixtureType.PLAYER.applyTo(mainFixtureDef);
         Fixture mainFixture = body.createFixture(mainFixtureDef);
-        mainFixture.setUserData("player");
+        mainFixture.setUserData(FixtureType.PLAYER);
         mainShape.dispose();
 
         // ===== СЕНСОР НОГ =====
@@ -111,8 +118,9 @@ public class Player {
         footFixtureDef.isSensor = true;
         footFixtureDef.density = 0f;
 
+        FixtureType.PLAYER_FOOT.applyTo(footFixtureDef);
         Fixture footSensor = body.createFixture(footFixtureDef);
-        footSensor.setUserData("foot");
+        footSensor.setUserData(FixtureType.PLAYER_FOOT);
 
         footShape.dispose();
 
@@ -121,8 +129,8 @@ public class Player {
 
     private void loadAnimations() {
         // ===== ХОДЬБА =====
-        moveSheet = new Texture("characters/player/walking.png");
-        TextureRegion[][] moveGrid = TextureRegion.split(moveSheet, MOVE_FRAME_WIDTH, MOVE_FRAME_HEIGHT);
+        moveSheet = SpriteAtlas.acquire(MOVE_SHEET_PATH);
+        TextureRegion[][] moveGrid = moveSheet.split(MOVE_FRAME_WIDTH, MOVE_FRAME_HEIGHT);
 
         // Стоим (первый кадр первой строки)
         idleAnim = new Animation<>(0.5f, new TextureRegion[]{ moveGrid[0][0] });
@@ -134,8 +142,8 @@ public class Player {
         runLeftAnim = new Animation<>(0.1f, moveGrid[3]);
 
         // ===== АТАКА =====
-        attackSheet = new Texture("characters/player/attack.png");
-        TextureRegion[][] attackGrid = TextureRegion.split(attackSheet, ATTACK_FRAME_WIDTH, ATTACK_FRAME_HEIGHT);
+        attackSheet = SpriteAtlas.acquire(ATTACK_SHEET_PATH);
+        TextureRegion[][] attackGrid = attackSheet.split(ATTACK_FRAME_WIDTH, ATTACK_FRAME_HEIGHT);
 
         // Атака вправо (3-я строка, индекс 2)
         attackRightAnim = new Animation<>(0.08f, attackGrid[2]);
@@ -199,7 +207,7 @@ public class Player {
     public void render(SpriteBatch batch) {
         if (!alive) return;
 
-        Vector2 pos = body.getPosition();
+        Vector2 pos = renderPosition;
 
         // ВЫБОР АНИМАЦИИ
         boolean moving = Math.abs(body.getLinearVelocity().x) > 0.1f;
@@ -239,6 +247,26 @@ public class Player {
         batch.draw(frame, drawX, drawY, drawWidth, drawHeight);
     }
 
+    // Вызывается перед каждым шагом физики
+    public void savePosition() {
+        prevPosition.set(body.getPosition());
+    }
+
+    // alpha - доля следующего шага, прошедшая к моменту отрисовки
+    public void interpolate(float alpha) {
+        renderPosition.set(prevPosition).lerp(body.getPosition(), alpha);
+    }
+
+    // После телепорта (респавн) не размазываем спрайт через всю карту
+    public void resetInterpolation() {
+        prevPosition.set(body.getPosition());
+        renderPosition.set(prevPosition);
+    }
+
+    public Vector2 getRenderPosition() {
+        return renderPosition;
+    }
+
     public void takeDamage(int dmg) {
         health -= dmg;
         // Воспроизводим звук получения урона
@@ -255,8 +283,10 @@ public class Player {
     }
 
     public void dispose() {
-        if (moveSheet != null) moveSheet.dispose();
-        if (attackSheet != null) attackSheet.dispose();
+        if (moveSheet != null) SpriteAtlas.release(MOVE_SHEET_PATH);
+        if (attackSheet != null) SpriteAtlas.release(ATTACK_SHEET_PATH);
+        moveSheet = null;
+        attackSheet = null;
     }
 
     // НОВЫЕ МЕТОДЫ
@@ -284,6 +314,7 @@ public class Player {
         alive = true;
         body.setTransform(spawnX, spawnY, 0);
         body.setLinearVelocity(0, 0);
+        resetInterpolation();
     }
 
     public float getX() {
@@ -0,0 +1,173 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Доступ к таблице player: профили по имени и несколько слотов сохранения.
+ * Каждый SQL готовится один раз и дальше переиспользуется (prepareStatement
+ * разбирает запрос только при первом вызове). Схема версионируется в таблице
+ * schema_version, старые базы обновляются в migrate().
+ *
+ * Не потокобезопасен: вызывается только из потока db-writer (см. Database).
+ */
+public class PlayerRepository {
+
+    public static final int SCHEMA_VERSION = 2;
+
+    private static final String COLUMNS = "name, slot, hp, strength, speed, defense, experience";
+
+    private static final String FIND_SQL =
+        "SELECT " + COLUMNS + " FROM player WHERE name = ? AND slot = ?;";
+    private static final String INSERT_SQL =
+        "INSERT OR IGNORE INTO player (name, slot) VALUES (?, ?);";
+    private static final String UPDATE_SQL =
+        "UPDATE player SET hp = ?, strength = ?, speed = ?, defense = ?, experience = ? WHERE name = ? AND slot = ?;";
+    private static final String DELETE_SQL =
+        "DELETE FROM player WHERE name = ? AND slot = ?;";
+    private static final String LIST_SLOTS_SQL =
+        "SELECT slot FROM player WHERE name = ? ORDER BY slot;";
+
+    private final Connection connection;
+    private final ObjectMap<String, PreparedStatement> statements = new ObjectMap<>();
+
+    public PlayerRepository(Connection connection) {
+        this.connection = connection;
+    }
+
+    // ===== Схема =====
+
+    /** Доводит схему до SCHEMA_VERSION. Каждый шаг выполняется ровно один раз. */
+    public void migrate() throws SQLException {
+        execute("CREATE TABLE IF NOT EXISTS schema_version (version INTEGER NOT NULL);");
+        int version = readSchemaVersion();
+        if (version >= SCHEMA_VERSION) return;
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            if (version < 1) {
+                // Версия 1 - исходная таблица (базы до появления schema_version уже её содержат)
+                execute("""
+                    CREATE TABLE IF NOT EXISTS player (
+                        id INTEGER PRIMARY KEY AUTOINCREMENT,
+                        name TEXT NOT NULL,
+                        hp INTEGER DEFAULT 100,
+                        strength INTEGER DEFAULT 0,
+                        speed INTEGER DEFAULT 20,
+                        defense INTEGER DEFAULT 0,
+                        experience INTEGER DEFAULT 1000
+                    );
+                    """);
+            }
+            if (version < 2) {
+                // Версия 2 - слоты сохранения и индекс для поиска профиля по имени
+                execute("ALTER TABLE player ADD COLUMN slot INTEGER NOT NULL DEFAULT 0;");
+                execute("CREATE UNIQUE INDEX IF NOT EXISTS idx_player_name_slot ON player (name, slot);");
+            }
+
+            execute("DELETE FROM schema_version;");
+            execute("INSERT INTO schema_version (version) VALUES (" + SCHEMA_VERSION + ");");
+            connection.commit();
+            System.out.println("Database schema migrated from v" + version + " to v" + SCHEMA_VERSION);
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private int readSchemaVersion() throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(version) FROM schema_version;")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    // ===== Профили и слоты =====
+
+    /** Запись профиля в слоте или null, если слот пуст. */
+    public Database.PlayerRecord find(String name, int slot) throws SQLException {
+        PreparedStatement stmt = statement(FIND_SQL);
+        stmt.setString(1, name);
+        stmt.setInt(2, slot);
+        try (ResultSet rs = stmt.executeQuery()) {
+            if (!rs.next()) return null;
+
+            Database.PlayerRecord record = new Database.PlayerRecord();
+            record.name = rs.getString("name");
+            record.slot = rs.getInt("slot");
+            record.hp = rs.getInt("hp");
+            record.strength = rs.getInt("strength");
+            record.speed = rs.getInt("speed");
+            record.defense = rs.getInt("defense");
+            record.experience = rs.getInt("experience");
+            return record;
+        }
+    }
+
+    /** Создаёт профиль со статами по умолчанию; занятый слот не трогает. */
+    public boolean insert(String name, int slot) throws SQLException {
+        PreparedStatement stmt = statement(INSERT_SQL);
+        stmt.setString(1, name);
+        stmt.setInt(2, slot);
+        return stmt.executeUpdate() > 0;
+    }
+
+    public void update(Database.PlayerRecord record) throws SQLException {
+        PreparedStatement stmt = statement(UPDATE_SQL);
+        stmt.setInt(1, record.hp);
+        stmt.setInt(2, record.strength);
+        stmt.setInt(3, record.speed);
+        stmt.setInt(4, record.defense);
+        stmt.setInt(5, record.experience);
+        stmt.setString(6, record.name);
+        stmt.setInt(7, record.slot);
+        stmt.executeUpdate();
+    }
+
+    public void delete(String name, int slot) throws SQLException {
+        PreparedStatement stmt = statement(DELETE_SQL);
+        stmt.setString(1, name);
+        stmt.setInt(2, slot);
+        stmt.executeUpdate();
+    }
+
+    /** Занятые слоты профиля по возрастанию. */
+    public IntArray listSlots(String name) throws SQLException {
+        IntArray slots = new IntArray();
+        PreparedStatement stmt = statement(LIST_SLOTS_SQL);
+        stmt.setString(1, name);
+        try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) slots.add(rs.getInt(1));
+        }
+        return slots;
+    }
+
+    public void close() throws SQLException {
+        for (PreparedStatement stmt : statements.values()) stmt.close();
+        statements.clear();
+    }
+
+    private PreparedStatement statement(String sql) throws SQLException {
+        PreparedStatement stmt = statements.get(sql);
+        if (stmt == null) {
+            stmt = connection.prepareStatement(sql);
+            statements.put(sql, stmt);
+        }
+        return stmt;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+}
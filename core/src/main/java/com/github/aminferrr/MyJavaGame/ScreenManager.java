@@ -0,0 +1,96 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.github.aminferrr.MyJavaGame.screens.GameScreen;
+
+/**
+ * Жизненный цикл экранов. Main.setScreen() передаёт сюда предыдущий экран:
+ * хаб (GameScreen) живёт всю игру и только прячется, всё остальное
+ * (меню, уровни, загрузка) dispose'ится.
+ *
+ * Dispose откладывается до конца кадра: setScreen() обычно вызывается из
+ * обработчика кнопки или из render() самого экрана, который после этого
+ * ещё дорисовывает кадр своим batch и stage.
+ */
+public class ScreenManager {
+
+    private final Main game;
+
+    private GameScreen hub;
+    private final ObjectSet<Screen> liveScreens = new ObjectSet<>();
+    private final Array<Screen> pendingDispose = new Array<>();
+
+    public ScreenManager(Main game) {
+        this.game = game;
+    }
+
+    /** Хаб создаётся один раз и дальше переиспользуется. */
+    public GameScreen getHub() {
+        if (hub == null) hub = new GameScreen(game);
+        return hub;
+    }
+
+    public boolean isCached(Screen screen) {
+        return screen != null && screen == hub;
+    }
+
+    void onShown(Screen screen) {
+        if (screen != null) liveScreens.add(screen);
+    }
+
+    void onHidden(Screen previous, Screen next) {
+        if (previous == null || previous == next || isCached(previous)) return;
+        if (!pendingDispose.contains(previous, true)) pendingDispose.add(previous);
+    }
+
+    /** Вызывается из Main.render() после отрисовки кадра. */
+    void disposePending() {
+        if (pendingDispose.size == 0) return;
+
+        for (Screen screen : pendingDispose) {
+            screen.dispose();
+            liveScreens.remove(screen);
+        }
+        pendingDispose.clear();
+        logResources();
+    }
+
+    public int getLiveScreenCount() {
+        return liveScreens.size;
+    }
+
+    /**
+     * Живые нативные и GPU ресурсы. Если в долгом прогоне (меню - хаб - уровень - хаб ...)
+     * эти числа растут от круга к кругу, какой-то экран не освобождает за собой ресурсы.
+     */
+    public String getResourceReport() {
+        return "экранов: " + liveScreens.size
+            + ", текстур: " + Texture.getNumManagedTextures()
+            + ", шейдеров: " + ShaderProgram.getNumManagedShaderPrograms()
+            + ", SQLite-соединений: " + game.getDatabase().getOpenConnectionCount()
+            + ", ресурсов AssetManager: " + game.getAssetManager().getLoadedAssets()
+            + ", текстур спрайтов: " + SpriteAtlas.getLoadedTextureCount()
+            + ", листов врагов: " + EnemyAnimationCache.getLoadedSheetCount();
+    }
+
+    public void logResources() {
+        Gdx.app.log("SCREENS", getResourceReport());
+    }
+
+    public void dispose() {
+        disposePending();
+        for (Screen screen : liveScreens) {
+            if (screen != hub) screen.dispose();
+        }
+        liveScreens.clear();
+        if (hub != null) {
+            hub.dispose();
+            hub = null;
+        }
+    }
+}
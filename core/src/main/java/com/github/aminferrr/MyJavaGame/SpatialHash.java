@@ -0,0 +1,125 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Равномерная сетка для поиска объектов рядом с точкой (враги рядом с игроком,
+ * попадания снарядов). Запрос смотрит только клетки, которые задевает круг,
+ * поэтому его цена зависит от плотности врагов вокруг, а не от их общего числа.
+ *
+ * Позиции обновляются через move() каждый кадр; объект перекладывается в другую
+ * клетку, только когда действительно её пересёк. query() память не выделяет (кроме
+ * роста out). move() создаёт список клетки, только когда в неё впервые кто-то
+ * попадает: опустевшие списки не удаляются, поэтому, когда враги обошли свои
+ * участки карты, move() тоже перестаёт выделять.
+ */
+public class SpatialHash<T> {
+
+    private static final class Entry<T> {
+        T item;
+        float x, y;
+        int cell;
+    }
+
+    private final float invCellSize;
+    private final IntMap<Array<Entry<T>>> cells = new IntMap<>();
+    private final ObjectMap<T, Entry<T>> entries = new ObjectMap<>();
+
+    /** cellSize - сторона клетки в метрах, примерно равна типичному радиусу запроса. */
+    public SpatialHash(float cellSize) {
+        this.invCellSize = 1f / cellSize;
+    }
+
+    public void insert(T item, float x, float y) {
+        Entry<T> entry = entries.get(item);
+        if (entry != null) {
+            move(item, x, y);
+            return;
+        }
+
+        entry = new Entry<>();
+        entry.item = item;
+        entry.x = x;
+        entry.y = y;
+        entry.cell = cellKey(cellCoord(x), cellCoord(y));
+        entries.put(item, entry);
+        bucket(entry.cell).add(entry);
+    }
+
+    public void move(T item, float x, float y) {
+        Entry<T> entry = entries.get(item);
+        if (entry == null) {
+            insert(item, x, y);
+            return;
+        }
+
+        entry.x = x;
+        entry.y = y;
+        int cell = cellKey(cellCoord(x), cellCoord(y));
+        if (cell != entry.cell) {
+            cells.get(entry.cell).removeValue(entry, true);
+            entry.cell = cell;
+            bucket(cell).add(entry);
+        }
+    }
+
+    public void remove(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry != null) cells.get(entry.cell).removeValue(entry, true);
+    }
+
+    public void clear() {
+        cells.clear();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size;
+    }
+
+    /** Добавляет в out все объекты не дальше radius от (x, y). Возвращает сколько добавлено. */
+    public int query(float x, float y, float radius, Array<T> out) {
+        int minX = cellCoord(x - radius), maxX = cellCoord(x + radius);
+        int minY = cellCoord(y - radius), maxY = cellCoord(y + radius);
+        float radius2 = radius * radius;
+        int found = 0;
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                Array<Entry<T>> bucket = cells.get(cellKey(cx, cy));
+                if (bucket == null) continue;
+
+                for (int i = 0; i < bucket.size; i++) {
+                    Entry<T> entry = bucket.get(i);
+                    float dx = entry.x - x;
+                    float dy = entry.y - y;
+                    if (dx * dx + dy * dy <= radius2) {
+                        out.add(entry.item);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private Array<Entry<T>> bucket(int cell) {
+        Array<Entry<T>> bucket = cells.get(cell);
+        if (bucket == null) {
+            bucket = new Array<>(false, 8);
+            cells.put(cell, bucket);
+        }
+        return bucket;
+    }
+
+    private int cellCoord(float value) {
+        return (int) Math.floor(value * invCellSize);
+    }
+
+    // 16 бит на координату клетки: хватает с запасом для карт уровней
+    private static int cellKey(int cx, int cy) {
+        return (cx << 16) ^ (cy & 0xFFFF);
+    }
+}
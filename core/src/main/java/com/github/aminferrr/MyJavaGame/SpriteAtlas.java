@@ -0,0 +1,100 @@
+package com.github.aminferrr.MyJavaGame;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Спрайт-листы персонажей, дроидов и NPC.
+ * Десктопная сборка (задача lwjgl3:packTextures) кладёт все листы на одну
+ * страницу атласа atlas/sprites.atlas, и SpriteBatch не сбрасывается на каждой
+ * смене текстуры. Без атласа (Android) лист грузится отдельной текстурой, как раньше.
+ *
+ * Пути передаются такие же, как раньше в new Texture(...):
+ * "characters/player/walking.png" ищется в атласе как "characters/player/walking".
+ * Каждому acquire() должен соответствовать release().
+ */
+public final class SpriteAtlas {
+
+    public static final String ATLAS_PATH = "atlas/sprites.atlas";
+
+    private static TextureAtlas atlas;
+    private static boolean atlasChecked = false;
+
+    private static final ObjectMap<String, Texture> looseTextures = new ObjectMap<>();
+    private static final ObjectIntMap<String> refCounts = new ObjectIntMap<>();
+    private static int totalRefs = 0;
+
+    private SpriteAtlas() {
+    }
+
+    public static TextureRegion acquire(String path) {
+        refCounts.getAndIncrement(path, 0, 1);
+        totalRefs++;
+
+        loadAtlasIfPresent();
+        if (atlas != null) {
+            TextureAtlas.AtlasRegion region = atlas.findRegion(regionName(path));
+            if (region != null) return new TextureRegion(region);
+            Gdx.app.error("ATLAS", "В атласе нет " + path + ", грузим отдельно");
+        }
+
+        Texture texture = looseTextures.get(path);
+        if (texture == null) {
+            texture = new Texture(path);
+            looseTextures.put(path, texture);
+        }
+        return new TextureRegion(texture);
+    }
+
+    public static void release(String path) {
+        int count = refCounts.get(path, 0);
+        if (count <= 0) return;
+
+        if (count == 1) {
+            refCounts.remove(path, 0);
+            Texture texture = looseTextures.remove(path);
+            if (texture != null) texture.dispose();
+        } else {
+            refCounts.put(path, count - 1);
+        }
+
+        totalRefs--;
+        if (totalRefs == 0 && atlas != null) {
+            atlas.dispose();
+            atlas = null;
+            atlasChecked = false;
+        }
+    }
+
+    public static boolean isAtlasLoaded() {
+        return atlas != null;
+    }
+
+    // Страницы атласа плюс отдельные текстуры - для отладки утечек
+    public static int getLoadedTextureCount() {
+        int pages = atlas != null ? atlas.getTextures().size : 0;
+        return pages + looseTextures.size;
+    }
+
+    private static void loadAtlasIfPresent() {
+        if (atlasChecked) return;
+        atlasChecked = true;
+
+        if (Gdx.files.internal(ATLAS_PATH).exists()) {
+            atlas = new TextureAtlas(Gdx.files.internal(ATLAS_PATH));
+            Gdx.app.log("ATLAS", "Атлас спрайтов загружен: страниц " + atlas.getTextures().size
+                + ", регионов " + atlas.getRegions().size);
+        } else {
+            Gdx.app.log("ATLAS", "Атлас " + ATLAS_PATH + " не найден, спрайты грузятся отдельными текстурами");
+        }
+    }
+
+    private static String regionName(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > 0 ? path.substring(0, dot) : path;
+    }
+}
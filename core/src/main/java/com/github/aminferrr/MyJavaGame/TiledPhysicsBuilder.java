@@ -62,8 +62,8 @@ public class TiledPhysicsBuilder {
             fixtureDef.friction = 0.5f;
             fixtureDef.restitution = 0.1f;
 
-            body.createFixture(fixtureDef);
-            body.setUserData("collision"); // Помечаем, что это стена/пол
+            FixtureType.WORLD.applyTo(fixtureDef);
+            body.createFixture(fixtureDef).setUserData(FixtureType.WORLD); // Помечаем, что это стена/пол
 
             shape.dispose();
 
@@ -92,8 +92,8 @@ public class TiledPhysicsBuilder {
             fixtureDef.shape = shape;
             fixtureDef.friction = 0.5f;
 
-            body.createFixture(fixtureDef);
-            body.setUserData("collision");
+            FixtureType.WORLD.applyTo(fixtureDef);
+            body.createFixture(fixtureDef).setUserData(FixtureType.WORLD);
 
             shape.dispose();
         }
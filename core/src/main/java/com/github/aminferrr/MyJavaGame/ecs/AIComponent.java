@@ -0,0 +1,46 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.ai.fsm.DefaultStateMachine;
+import com.badlogic.gdx.ai.fsm.StateMachine;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.sched.Schedulable;
+import com.badlogic.gdx.math.Vector2;
+import com.github.aminferrr.MyJavaGame.Player;
+import com.github.aminferrr.MyJavaGame.nav.NavGraph;
+import com.github.aminferrr.MyJavaGame.nav.NavNode;
+
+/**
+ * Поведение врага: машина состояний (EnemyState) и данные патруля.
+ * Сам компонент - задача планировщика: run() переоценивает состояние.
+ */
+public class AIComponent implements Component, Schedulable {
+
+    /** Что показывает анимация (состояние машины выбирает позу каждый кадр). */
+    public enum Pose { IDLE, RUNNING, ATTACKING, DEAD }
+
+    public StateMachine<Entity, EnemyState> stateMachine;
+    public Pose pose = Pose.IDLE;
+    public Player target;            // кого преследуем, проставляет EnemyAISystem
+    public float attackTimer = 0;
+
+    public final Vector2 spawnPoint = new Vector2();
+    public float patrolRadius = 3f;
+    public float patrolTimer = 0;
+    public boolean movingRight = true;
+
+    // Путь по графу уровня для наземных (null - графа нет или дойти нельзя)
+    public NavGraph nav;
+    public GraphPath<NavNode> path; // общий из кэша NavGraph - только читаем
+    public int pathIndex;           // к какому узлу пути идём сейчас
+
+    public AIComponent(Entity owner) {
+        stateMachine = new DefaultStateMachine<>(owner, EnemyState.PATROL);
+    }
+
+    @Override
+    public void run(long nanoTimeToRun) {
+        stateMachine.update();
+    }
+}
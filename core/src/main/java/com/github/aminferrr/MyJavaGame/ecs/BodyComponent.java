@@ -0,0 +1,8 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.physics.box2d.Body;
+
+public class BodyComponent implements Component {
+    public Body body;
+}
@@ -0,0 +1,98 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.github.aminferrr.MyJavaGame.Player;
+import com.github.aminferrr.MyJavaGame.nav.NavGraph;
+
+/**
+ * Поведение врагов. Решения (смена состояния EnemyState) распределены по кадрам
+ * через LoadBalancingScheduler: каждый враг "думает" раз в DECISION_FREQUENCY
+ * кадров, фазы раскиданы так, чтобы за кадр думала примерно 1/DECISION_FREQUENCY
+ * врагов. Движение и атака (EnemyState.act) - каждый кадр для всех бодрствующих.
+ * Поиск пути по NavGraph тоже часть решения, поэтому в кадр его не попадает больше,
+ * чем решений, а повторные запросы берутся из кэша графа.
+ */
+public class EnemyAISystem extends IteratingSystem {
+
+    // Раз в сколько кадров враг пересматривает состояние (~10 раз в секунду при 60 FPS)
+    private static final int DECISION_FREQUENCY = 6;
+    // Время на решения за кадр; задачи короткие, бюджет - страховка для больших уровней
+    private static final long DECISION_BUDGET_NANOS = 1_000_000L;
+
+    private final Player player;
+    private final NavGraph nav;
+    private final EnemyScheduler scheduler = new EnemyScheduler(DECISION_FREQUENCY * 10);
+
+    // Усыплённые и убитые враги выпадают из семейства - и из планировщика
+    private final EntityListener schedulerListener = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {
+            schedule(entity);
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            scheduler.remove(Mappers.ai.get(entity));
+        }
+    };
+
+    /** nav - граф уровня для наземных врагов; null - ходят только по горизонтали. */
+    public EnemyAISystem(Player player, NavGraph nav) {
+        super(Family.all(EnemyComponent.class, AIComponent.class, BodyComponent.class)
+            .exclude(SleepingComponent.class).get(), 0);
+        this.player = player;
+        this.nav = nav;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        for (Entity entity : getEntities()) schedule(entity);
+        engine.addEntityListener(getFamily(), schedulerListener);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(schedulerListener);
+        for (Entity entity : getEntities()) scheduler.remove(Mappers.ai.get(entity));
+        super.removedFromEngine(engine);
+    }
+
+    @Override
+    public void update(float delta) {
+        scheduler.run(DECISION_BUDGET_NANOS);
+        super.update(delta);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        EnemyComponent enemy = Mappers.enemy.get(entity);
+        AIComponent ai = Mappers.ai.get(entity);
+        Body body = Mappers.body.get(entity).body;
+
+        // Смерть не ждёт очереди планировщика
+        if (!enemy.alive && ai.stateMachine.getCurrentState() != EnemyState.DEAD) {
+            ai.stateMachine.changeState(EnemyState.DEAD);
+        }
+
+        ai.attackTimer += delta;
+        ai.stateMachine.getCurrentState().act(entity, ai, body, enemy.type, delta);
+    }
+
+    /** Сколько врагов сейчас в расписании решений (для debug-лога). */
+    public int getScheduledCount() {
+        return scheduler.size();
+    }
+
+    private void schedule(Entity entity) {
+        AIComponent ai = Mappers.ai.get(entity);
+        ai.target = player;
+        ai.nav = nav;
+        scheduler.addWithAutomaticPhasing(ai, DECISION_FREQUENCY);
+    }
+}
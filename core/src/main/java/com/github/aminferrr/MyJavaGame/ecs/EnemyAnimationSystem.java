@@ -0,0 +1,46 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.github.aminferrr.MyJavaGame.EnemyAnimationCache;
+
+/** Выбирает анимацию по позе ИИ, двигает её время и разворачивает спрайт по скорости. */
+public class EnemyAnimationSystem extends IteratingSystem {
+
+    public EnemyAnimationSystem() {
+        super(Family.all(AIComponent.class, SpriteComponent.class, BodyComponent.class)
+            .exclude(SleepingComponent.class).get(), 1);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        AIComponent ai = Mappers.ai.get(entity);
+        SpriteComponent sprite = Mappers.sprite.get(entity);
+
+        Animation<TextureRegion> anim = animationFor(ai.pose, sprite.animations);
+        sprite.visible = anim != null;
+        if (anim != null) {
+            boolean looping = ai.pose != AIComponent.Pose.ATTACKING && ai.pose != AIComponent.Pose.DEAD;
+            sprite.animManager.setAnimation(anim, looping);
+            sprite.animManager.update(delta);
+        }
+
+        // Поворот в сторону движения; стоя на месте враг смотрит туда же, куда шёл
+        float vx = Mappers.body.get(entity).body.getLinearVelocity().x;
+        if (vx < 0) sprite.facingLeft = true;
+        else if (vx > 0) sprite.facingLeft = false;
+    }
+
+    private static Animation<TextureRegion> animationFor(AIComponent.Pose pose, EnemyAnimationCache.AnimationSet set) {
+        if (set == null) return null;
+        switch (pose) {
+            case RUNNING: return set.run;
+            case ATTACKING: return set.attack;
+            case DEAD: return set.death;
+            default: return set.idle;
+        }
+    }
+}
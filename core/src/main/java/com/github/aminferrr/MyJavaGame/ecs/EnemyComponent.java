@@ -0,0 +1,16 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.github.aminferrr.MyJavaGame.EnemyType;
+
+/** Тип и здоровье врага. */
+public class EnemyComponent implements Component {
+    public EnemyType type;
+    public int health = 50;
+    public boolean alive = true;
+
+    public void takeDamage(int amount) {
+        health -= amount;
+        if (health <= 0) alive = false;
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.github.aminferrr.MyJavaGame.EnemyAnimationCache;
+import com.github.aminferrr.MyJavaGame.EnemyType;
+import com.github.aminferrr.MyJavaGame.FixtureType;
+
+import java.util.EnumSet;
+
+/**
+ * Собирает врага-сущность: тело Box2D, компоненты и общие анимации типа.
+ * destroy() - обратная операция, её нужно вызвать для каждого врага
+ * (иначе тело останется в мире). Анимации враг только одалживает: их держит
+ * экран уровня (LevelAssets.acquireEnemyAnimations), поэтому гибель последнего
+ * врага типа не выгружает его листы посреди уровня.
+ */
+public class EnemyFactory {
+
+    /** Все враги уровня, включая усыплённых. */
+    public static final Family ENEMIES = Family.all(EnemyComponent.class, BodyComponent.class).get();
+
+    private final Engine engine;
+    private final World world;
+    // Типы, которых нет в LevelAssets.enemyTypes уровня: их анимации фабрика взяла сама и отдаёт в dispose()
+    private final EnumSet<EnemyType> ownTypes = EnumSet.noneOf(EnemyType.class);
+
+    public EnemyFactory(Engine engine, World world) {
+        this.engine = engine;
+        this.world = world;
+    }
+
+    public Entity create(Vector2 spawnPos, String typeName) {
+        EnemyType type = EnemyType.fromName(typeName);
+        Entity entity = new Entity();
+
+        EnemyComponent enemy = new EnemyComponent();
+        enemy.type = type;
+        entity.add(enemy);
+
+        BodyComponent body = new BodyComponent();
+        body.body = createBody(type, spawnPos);
+        body.body.setUserData(entity);
+        entity.add(body);
+
+        TransformComponent transform = new TransformComponent();
+        transform.reset(spawnPos);
+        entity.add(transform);
+
+        AIComponent ai = new AIComponent(entity);
+        ai.spawnPoint.set(spawnPos);
+        entity.add(ai);
+
+        SpriteComponent sprite = new SpriteComponent();
+        sprite.animations = borrowAnimations(type);
+        sprite.width = type.spriteWidth;
+        sprite.height = type.spriteHeight;
+        entity.add(sprite);
+
+        engine.addEntity(entity);
+        Gdx.app.log("ENEMY", "Создан враг типа " + typeName + " на позиции " + spawnPos);
+        return entity;
+    }
+
+    /** Убирает врага из движка и мира. Нельзя вызывать во время world.step(). */
+    public void destroy(Entity entity) {
+        SpriteComponent sprite = Mappers.sprite.get(entity);
+        if (sprite != null) sprite.animations = null;
+
+        BodyComponent body = Mappers.body.get(entity);
+        if (body.body != null) {
+            world.destroyBody(body.body);
+            body.body = null;
+        }
+        engine.removeEntity(entity);
+    }
+
+    /** Отдаёт анимации, взятые фабрикой сверх списка уровня. Вызывать после destroy() всех врагов. */
+    public void dispose() {
+        for (EnemyType type : ownTypes) EnemyAnimationCache.release(type);
+        ownTypes.clear();
+    }
+
+    private EnemyAnimationCache.AnimationSet borrowAnimations(EnemyType type) {
+        EnemyAnimationCache.AnimationSet set = EnemyAnimationCache.get(type);
+        if (set != null) return set;
+
+        Gdx.app.error("ENEMY", "Тип " + type + " не указан в LevelAssets.enemyTypes уровня, анимации грузятся при создании врага");
+        ownTypes.add(type);
+        return EnemyAnimationCache.acquire(type);
+    }
+
+    private Body createBody(EnemyType type, Vector2 spawnPos) {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = type.flying ? BodyDef.BodyType.KinematicBody : BodyDef.BodyType.DynamicBody;
+        bodyDef.position.set(spawnPos);
+        bodyDef.fixedRotation = true;
+
+        Body body = world.createBody(bodyDef);
+
+        PolygonShape mainShape = new PolygonShape();
+        mainShape.setAsBox(type.hitboxHalfWidth, type.hitboxHalfHeight);
+
+        FixtureDef mainFixtureDef = new FixtureDef();
+        mainFixtureDef.shape = mainShape;
+        mainFixtureDef.density = 1.2f;
+        mainFixtureDef.friction = 0.4f;
+        mainFixtureDef.restitution = 0f;
+
+        FixtureType.ENEMY.applyTo(mainFixtureDef);
+        body.createFixture(mainFixtureDef).setUserData(FixtureType.ENEMY);
+        mainShape.dispose();
+
+        body.setGravityScale(type.flying ? 0f : 1f);
+        return body;
+    }
+}
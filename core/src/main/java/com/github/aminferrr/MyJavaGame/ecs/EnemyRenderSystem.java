@@ -0,0 +1,59 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Интерполяция и отрисовка врагов. Engine.update() её не вызывает
+ * (setProcessing(false)): экран сам зовёт savePositions() перед каждым шагом
+ * физики и render() внутри своего batch.begin()/end().
+ */
+public class EnemyRenderSystem extends IteratingSystem {
+
+    private SpriteBatch batch;
+    private float alpha;
+
+    public EnemyRenderSystem() {
+        super(Family.all(TransformComponent.class, SpriteComponent.class, BodyComponent.class)
+            .exclude(SleepingComponent.class).get(), 2);
+        setProcessing(false);
+    }
+
+    // Вызывается перед каждым шагом физики
+    public void savePositions() {
+        for (Entity entity : getEntities()) {
+            Mappers.transform.get(entity).previous.set(Mappers.body.get(entity).body.getPosition());
+        }
+    }
+
+    /** Рисует врагов между двумя последними шагами физики; batch уже начат. */
+    public void render(SpriteBatch batch, float alpha) {
+        this.batch = batch;
+        this.alpha = alpha;
+        update(0f);
+        this.batch = null;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        TransformComponent transform = Mappers.transform.get(entity);
+        SpriteComponent sprite = Mappers.sprite.get(entity);
+        Vector2 pos = transform.render.set(transform.previous).lerp(Mappers.body.get(entity).body.getPosition(), alpha);
+
+        if (!sprite.visible) return;
+        TextureRegion frame = sprite.animManager.getFrame();
+        float x = pos.x - sprite.width / 2;
+        float y = pos.y - sprite.height / 2;
+
+        // Кадры общие для всех врагов типа, поэтому отражаем отрицательной шириной, а не frame.flip()
+        if (sprite.facingLeft) {
+            batch.draw(frame, x + sprite.width, y, -sprite.width, sprite.height);
+        } else {
+            batch.draw(frame, x, y, sprite.width, sprite.height);
+        }
+    }
+}
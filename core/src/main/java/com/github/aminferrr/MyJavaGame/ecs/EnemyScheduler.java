@@ -0,0 +1,36 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.gdx.ai.sched.LoadBalancingScheduler;
+import com.badlogic.gdx.ai.sched.Schedulable;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * LoadBalancingScheduler, из которого можно убрать задачу: врагов усыпляют и
+ * убивают, а в gdx-ai 1.8 у планировщика есть только add().
+ */
+public class EnemyScheduler extends LoadBalancingScheduler {
+
+    // Задачи в том же порядке, что и записи schedulableRecords
+    private final Array<Schedulable> tasks = new Array<>();
+
+    public EnemyScheduler(int dryRunFrames) {
+        super(dryRunFrames);
+    }
+
+    @Override
+    public void add(Schedulable schedulable, int frequency, int phase) {
+        super.add(schedulable, frequency, phase);
+        tasks.add(schedulable);
+    }
+
+    public void remove(Schedulable schedulable) {
+        int index = tasks.indexOf(schedulable, true);
+        if (index < 0) return;
+        tasks.removeIndex(index);
+        schedulableRecords.removeIndex(index);
+    }
+
+    public int size() {
+        return tasks.size;
+    }
+}
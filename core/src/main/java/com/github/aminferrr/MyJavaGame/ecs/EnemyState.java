@@ -0,0 +1,223 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.ai.fsm.State;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.msg.Telegram;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.github.aminferrr.MyJavaGame.EnemyType;
+import com.github.aminferrr.MyJavaGame.nav.NavGraph;
+import com.github.aminferrr.MyJavaGame.nav.NavLink;
+import com.github.aminferrr.MyJavaGame.nav.NavNode;
+
+/**
+ * Состояния врага для gdx-ai StateMachine.
+ *
+ * update() - решение "в какое состояние перейти": дистанции до игрока и до точки
+ * спавна. Его вызывает планировщик раз в несколько кадров (см. EnemyAISystem).
+ * act() - движение и атака в текущем состоянии, выполняется каждый кадр,
+ * поэтому скорость и темп атак не зависят от того, как редко враг "думает".
+ *
+ * Наземные враги с графом уровня (AIComponent.nav) гонятся и возвращаются по
+ * найденному пути: бегут к следующему узлу и прыгают, если связь к нему - прыжок.
+ */
+public enum EnemyState implements State<Entity> {
+
+    /** Гуляет у точки спавна: летающие туда-сюда по краям, наземные по таймеру. */
+    PATROL {
+        @Override
+        public void act(Entity entity, AIComponent ai, Body body, EnemyType type, float delta) {
+            Vector2 pos = body.getPosition();
+            if (type.flying) {
+                if (pos.x > ai.spawnPoint.x + ai.patrolRadius) ai.movingRight = false;
+                if (pos.x < ai.spawnPoint.x - ai.patrolRadius) ai.movingRight = true;
+                body.setLinearVelocity(ai.movingRight ? SPEED * 0.7f : -SPEED * 0.7f, 0f);
+                ai.pose = AIComponent.Pose.RUNNING;
+            } else {
+                ai.patrolTimer += delta;
+                if (ai.patrolTimer >= 2f) {
+                    ai.movingRight = !ai.movingRight;
+                    ai.patrolTimer = 0;
+                }
+                body.setLinearVelocity(ai.movingRight ? SPEED * 0.5f : -SPEED * 0.5f, body.getLinearVelocity().y);
+                ai.pose = AIComponent.Pose.IDLE;
+            }
+        }
+    },
+
+    /** Бежит к игроку: наземные по пути через платформы, остальные по горизонтали. */
+    CHASE {
+        @Override
+        public void act(Entity entity, AIComponent ai, Body body, EnemyType type, float delta) {
+            ai.pose = AIComponent.Pose.RUNNING;
+            if (!type.flying && followPath(ai, body)) return;
+
+            float dir = ai.target.body.getPosition().x > body.getPosition().x ? 1 : -1;
+            body.setLinearVelocity(dir * SPEED, type.flying ? 0f : body.getLinearVelocity().y);
+        }
+    },
+
+    /** Наземный враг ушёл слишком далеко от спавна и возвращается. */
+    RETURN {
+        @Override
+        public void act(Entity entity, AIComponent ai, Body body, EnemyType type, float delta) {
+            ai.pose = AIComponent.Pose.RUNNING;
+            if (followPath(ai, body)) return;
+
+            float dx = ai.spawnPoint.x - body.getPosition().x;
+            float dy = ai.spawnPoint.y - body.getPosition().y;
+            float len = (float) Math.sqrt(dx * dx + dy * dy);
+            if (len > 0.0001f) body.setLinearVelocity(dx / len * SPEED, body.getLinearVelocity().y);
+        }
+    },
+
+    /** Стоит рядом с игроком и бьёт раз в ATTACK_COOLDOWN. */
+    ATTACK {
+        @Override
+        public void act(Entity entity, AIComponent ai, Body body, EnemyType type, float delta) {
+            body.setLinearVelocity(0f, type.flying ? 0f : body.getLinearVelocity().y);
+            if (ai.attackTimer >= ATTACK_COOLDOWN) {
+                ai.attackTimer = 0;
+                ai.target.takeDamage(ATTACK_DAMAGE);
+                ai.pose = AIComponent.Pose.ATTACKING;
+            } else {
+                ai.pose = AIComponent.Pose.IDLE;
+            }
+        }
+    },
+
+    DEAD {
+        @Override
+        public void update(Entity entity) {
+            // из смерти никуда не переходим
+        }
+
+        @Override
+        public void act(Entity entity, AIComponent ai, Body body, EnemyType type, float delta) {
+            body.setLinearVelocity(0, 0);
+            ai.pose = AIComponent.Pose.DEAD;
+        }
+    };
+
+    static final float SPEED = 3f;
+    static final float ATTACK_RANGE = 1.0f;
+    static final float VISION_RANGE = 5f;
+    static final float ATTACK_COOLDOWN = 1.0f;
+    static final int ATTACK_DAMAGE = 10;
+    // Погоня по графу: заметив игрока, наземный враг не бросает его до этой дистанции
+    static final float CHASE_RANGE = 12f;
+    // Насколько близко по x к узлу пути, чтобы считать его пройденным
+    static final float WAYPOINT_TOLERANCE = 0.3f;
+    // Запас высоты прыжка над полом целевой платформы
+    static final float JUMP_CLEARANCE = 0.6f;
+
+    /** Движение и атака в этом состоянии - каждый кадр. */
+    public abstract void act(Entity entity, AIComponent ai, Body body, EnemyType type, float delta);
+
+    /** Выбор следующего состояния - по расписанию планировщика. */
+    @Override
+    public void update(Entity entity) {
+        AIComponent ai = Mappers.ai.get(entity);
+        Body body = Mappers.body.get(entity).body;
+        EnemyType type = Mappers.enemy.get(entity).type;
+        EnemyState next = decide(this, ai, body, type);
+        if (next != this) ai.stateMachine.changeState(next);
+
+        if (!type.flying && (next == CHASE || next == RETURN)) {
+            planPath(ai, body, next == CHASE ? ai.target.body.getPosition() : ai.spawnPoint);
+        } else {
+            ai.path = null;
+        }
+    }
+
+    private static EnemyState decide(EnemyState current, AIComponent ai, Body body, EnemyType type) {
+        Vector2 playerPos = ai.target.body.getPosition();
+        Vector2 enemyPos = body.getPosition();
+
+        if (type.flying) {
+            // Летающие смотрят только на расстояние по горизонтали и к спавну не возвращаются
+            float absDx = Math.abs(playerPos.x - enemyPos.x);
+            if (absDx > VISION_RANGE) return PATROL;
+            return absDx > ATTACK_RANGE ? CHASE : ATTACK;
+        }
+
+        // Без графа наземный враг не может уйти с платформы - держится у спавна
+        if (ai.nav == null && enemyPos.dst(ai.spawnPoint) > ai.patrolRadius) return RETURN;
+
+        float distanceToPlayer = enemyPos.dst(playerPos);
+        if (distanceToPlayer <= ATTACK_RANGE) return ATTACK;
+        if (distanceToPlayer <= VISION_RANGE) return CHASE;
+        boolean pursuing = current == CHASE || current == ATTACK;
+        if (ai.nav != null && pursuing && distanceToPlayer <= CHASE_RANGE) return CHASE;
+
+        if (enemyPos.dst(ai.spawnPoint) > ai.patrolRadius) return RETURN;
+        return PATROL;
+    }
+
+    // ===== Путь по графу =====
+
+    private static void planPath(AIComponent ai, Body body, Vector2 goal) {
+        ai.path = null;
+        if (ai.nav == null) return;
+
+        Vector2 pos = body.getPosition();
+        NavNode from = ai.nav.nodeAt(pos.x, pos.y);
+        NavNode to = ai.nav.nodeAt(goal.x, goal.y);
+        if (from == null || to == null || from == to) return;
+
+        GraphPath<NavNode> path = ai.nav.findPath(from, to);
+        if (path.getCount() < 2) return;
+        ai.path = path;
+        ai.pathIndex = 1; // 0 - узел, на котором стоим
+    }
+
+    /** Ведёт тело к следующему узлу пути. false - пути нет или он пройден. */
+    private static boolean followPath(AIComponent ai, Body body) {
+        GraphPath<NavNode> path = ai.path;
+        if (path == null) return false;
+
+        Vector2 pos = body.getPosition();
+        while (ai.pathIndex < path.getCount()) {
+            NavNode node = path.get(ai.pathIndex);
+            if (Math.abs(node.x - pos.x) > WAYPOINT_TOLERANCE || pos.y < node.y) break;
+            ai.pathIndex++;
+        }
+        if (ai.pathIndex >= path.getCount()) {
+            ai.path = null;
+            return false;
+        }
+
+        NavNode from = path.get(ai.pathIndex - 1);
+        NavNode next = path.get(ai.pathIndex);
+        float vy = body.getLinearVelocity().y;
+
+        // Прыжок на уступ или через яму - с места, как только стоим на полу
+        NavLink link = NavGraph.linkBetween(from, next);
+        if (link != null && link.type == NavLink.Type.JUMP
+            && Math.abs(vy) < 0.05f && Math.abs(pos.x - from.x) < 0.5f) {
+            float gravity = -body.getWorld().getGravity().y * body.getGravityScale();
+            float rise = Math.max(next.y - from.y, 0f) + JUMP_CLEARANCE;
+            float airTime = Math.abs(next.x - from.x) / SPEED;
+            // Хватает и высоты, и времени в воздухе, чтобы перелететь по горизонтали
+            vy = Math.max((float) Math.sqrt(2f * gravity * rise), 0.5f * gravity * airTime);
+        }
+
+        float dir = next.x > pos.x ? 1 : -1;
+        body.setLinearVelocity(dir * SPEED, vy);
+        return true;
+    }
+
+    @Override
+    public void enter(Entity entity) {
+    }
+
+    @Override
+    public void exit(Entity entity) {
+    }
+
+    @Override
+    public boolean onMessage(Entity entity, Telegram telegram) {
+        return false;
+    }
+}
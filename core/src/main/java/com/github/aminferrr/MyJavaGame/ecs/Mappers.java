@@ -0,0 +1,16 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+/** Быстрый доступ к компонентам по индексу типа вместо поиска по классу. */
+public final class Mappers {
+    public static final ComponentMapper<TransformComponent> transform = ComponentMapper.getFor(TransformComponent.class);
+    public static final ComponentMapper<BodyComponent> body = ComponentMapper.getFor(BodyComponent.class);
+    public static final ComponentMapper<EnemyComponent> enemy = ComponentMapper.getFor(EnemyComponent.class);
+    public static final ComponentMapper<AIComponent> ai = ComponentMapper.getFor(AIComponent.class);
+    public static final ComponentMapper<SpriteComponent> sprite = ComponentMapper.getFor(SpriteComponent.class);
+    public static final ComponentMapper<SleepingComponent> sleeping = ComponentMapper.getFor(SleepingComponent.class);
+
+    private Mappers() {
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Component;
+
+/** Метка усыплённого врага (далеко от камеры): системы ИИ, анимации и отрисовки его пропускают. */
+public class SleepingComponent implements Component {
+}
@@ -0,0 +1,15 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.github.aminferrr.MyJavaGame.AnimationManager;
+import com.github.aminferrr.MyJavaGame.EnemyAnimationCache;
+
+/** Анимации врага (общие на тип, см. EnemyAnimationCache) и размер спрайта в метрах. */
+public class SpriteComponent implements Component {
+    public EnemyAnimationCache.AnimationSet animations;
+    public final AnimationManager animManager = new AnimationManager();
+    public float width;
+    public float height;
+    public boolean facingLeft = false;
+    public boolean visible = false; // false - анимация для состояния не загрузилась
+}
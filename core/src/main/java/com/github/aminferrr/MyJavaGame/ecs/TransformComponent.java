@@ -0,0 +1,16 @@
+package com.github.aminferrr.MyJavaGame.ecs;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/** Позиция для отрисовки: тело до последнего шага физики и точка между шагами. */
+public class TransformComponent implements Component {
+    public final Vector2 previous = new Vector2(); // сохраняется перед каждым шагом физики
+    public final Vector2 render = new Vector2();   // интерполированная позиция для кадра
+
+    /** Тело стояло на месте (спавн, пробуждение) - интерполировать не от чего. */
+    public void reset(Vector2 position) {
+        previous.set(position);
+        render.set(position);
+    }
+}
@@ -1,11 +1,11 @@
 package com.github.aminferrr.MyJavaGame.elements;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.MathUtils;
+import com.github.aminferrr.MyJavaGame.SpriteAtlas;
 
 public class NPC {
 
@@ -24,7 +24,8 @@ public class NPC {
     protected static final int FRAME_W = 16;
     protected static final int FRAME_H = 32;
 
-    protected Texture texture;
+    protected final String texturePath;
+    protected TextureRegion texture;
 
     protected Animation<TextureRegion> walkUp;
     protected Animation<TextureRegion> walkDown;
@@ -55,9 +56,10 @@ public class NPC {
         this.minX = minX;
         this.maxX = maxX;
 
-        texture = new Texture(texturePath);
+        this.texturePath = texturePath;
+        texture = SpriteAtlas.acquire(texturePath);
         TextureRegion[][] frames =
-            TextureRegion.split(texture, FRAME_W, FRAME_H);
+            texture.split(FRAME_W, FRAME_H);
 
         walkDown  = new Animation<>(0.2f, frames[0]);
         walkRight = new Animation<>(0.2f, frames[1]);
@@ -190,7 +192,8 @@ public class NPC {
     public float getHeight() { return npcH; }
 
     public void dispose() {
-        texture.dispose();
+        if (texture != null) SpriteAtlas.release(texturePath);
+        texture = null;
     }
 
     public void setPatrolRange(float minX, float maxX) {
@@ -1,14 +1,13 @@
 package com.github.aminferrr.MyJavaGame.elements;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.MathUtils;
+import com.github.aminferrr.MyJavaGame.SpriteAtlas;
+import com.github.aminferrr.MyJavaGame.input.PlayerInput;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -50,7 +49,8 @@ public class Player {
     private Sound hurtSound;
 
     // ===== Анимации =====
-    private final Texture texture;
+    private static final String TEXTURE_PATH = "character.png";
+    private TextureRegion texture;
     private final Animation<TextureRegion> walkUp;
     private final Animation<TextureRegion> walkDown;
     private final Animation<TextureRegion> walkLeft;
@@ -76,8 +76,8 @@ public class Player {
         this.maxHealth = stats.getHp();
         this.speed = stats.getSpeed();
 
-        texture = new Texture("character.png");
-        TextureRegion[][] frames = TextureRegion.split(texture, FRAME_W, FRAME_H);
+        texture = SpriteAtlas.acquire(TEXTURE_PATH);
+        TextureRegion[][] frames = texture.split(FRAME_W, FRAME_H);
 
         walkDown  = new Animation<>(0.15f, frames[0]);
         walkRight = new Animation<>(0.15f, frames[1]);
@@ -160,7 +160,7 @@ public class Player {
         alive = true;
     }
 
-    public void update(float delta) {
+    public void update(float delta, PlayerInput input) {
         if (!alive) return;
 
         stateTime += delta;
@@ -179,28 +179,28 @@ public class Player {
         float dy = 0f;
         boolean moving = false;
 
-        if (Gdx.input.isKeyPressed(Input.Keys.A)) {
+        if (input.isDown(PlayerInput.LEFT)) {
             dx -= currentSpeed;
             currentFrame = walkLeft.getKeyFrame(stateTime, true);
             lastDirection = Direction.LEFT;
             moving = true;
         }
 
-        if (Gdx.input.isKeyPressed(Input.Keys.D)) {
+        if (input.isDown(PlayerInput.RIGHT)) {
             dx += currentSpeed;
             currentFrame = walkRight.getKeyFrame(stateTime, true);
             lastDirection = Direction.RIGHT;
             moving = true;
         }
 
-        if (Gdx.input.isKeyPressed(Input.Keys.W)) {
+        if (input.isDown(PlayerInput.UP)) {
             dy += currentSpeed;
             currentFrame = walkUp.getKeyFrame(stateTime, true);
             lastDirection = Direction.UP;
             moving = true;
         }
 
-        if (Gdx.input.isKeyPressed(Input.Keys.S)) {
+        if (input.isDown(PlayerInput.DOWN)) {
             dy -= currentSpeed;
             currentFrame = walkDown.getKeyFrame(stateTime, true);
             lastDirection = Direction.DOWN;
@@ -264,7 +264,8 @@ public class Player {
         playerY = MathUtils.clamp(playerY, 0, mapHeight - playerH);
     }
 
-    private boolean isBlockedFeet(float px, float py) {
+    // Пакетный доступ - для PlayerCollisionBenchmark
+    boolean isBlockedFeet(float px, float py) {
         float footX = px + (playerW - footW) / 2f;
         float footY = py;
         float eps = 0.01f;
@@ -302,6 +303,7 @@ public class Player {
     public boolean isAttacking() { return isAttacking; }
 
     public void dispose() {
-        texture.dispose();
+        if (texture != null) SpriteAtlas.release(TEXTURE_PATH);
+        texture = null;
     }
 }
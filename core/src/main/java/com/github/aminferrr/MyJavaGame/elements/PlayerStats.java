@@ -1,12 +1,27 @@
 package com.github.aminferrr.MyJavaGame.elements;
 
+import com.badlogic.gdx.utils.Array;
 import com.github.aminferrr.MyJavaGame.Database;
 
-import java.sql.SQLException;
-import java.sql.Statement;
-
+/**
+ * Статы игрока в памяти - один экземпляр на всю игру (Main.getPlayerStats()).
+ * База не опрашивается: UI и сохранение подписываются на изменения через Listener.
+ */
 public class PlayerStats {
 
+    public enum Change {
+        LOADED,      // статы заново взяты из базы (старт, новая игра)
+        EXPERIENCE,  // начислен опыт
+        HP,
+        STRENGTH,
+        SPEED,
+        DEFENSE
+    }
+
+    public interface Listener {
+        void statsChanged(PlayerStats stats, Change change);
+    }
+
     private int hp;
     private int strength;
     private int speed;
@@ -19,82 +34,105 @@ public class PlayerStats {
     private int speedCost = 20;
     private int defenseCost = 20;
 
-    private Database db;
+    private final Array<Listener> listeners = new Array<>();
 
-    public PlayerStats(Database db) {
-        this.db = db;
-        loadStats();
+    public PlayerStats(Database.PlayerRecord record) {
+        load(record);
     }
 
-    private void loadStats() {
-        try (Statement stmt = db.getConnection().createStatement();
-             var rs = stmt.executeQuery("SELECT hp, strength, speed, defense, experience FROM player LIMIT 1;")) {
-            if (rs.next()) {
-                hp = rs.getInt("hp");
-                strength = rs.getInt("strength");
-                speed = rs.getInt("speed");
-                defense = rs.getInt("defense");
-                experience = rs.getInt("experience");
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
+    public void load(Database.PlayerRecord record) {
+        if (record != null) {
+            hp = record.hp;
+            strength = record.strength;
+            speed = record.speed;
+            defense = record.defense;
+            experience = record.experience;
         }
+        hpCost = strengthCost = speedCost = defenseCost = 20;
+        notifyListeners(Change.LOADED);
+    }
+
+    /**
+     * Статы вместе с текущими ценами прокачки (они удваиваются за сессию и в базе
+     * не хранятся) - для воспроизведения записи ввода с тем же состоянием игрока.
+     */
+    public void restore(Database.PlayerRecord record, int hpCost, int strengthCost, int speedCost, int defenseCost) {
+        hp = record.hp;
+        strength = record.strength;
+        speed = record.speed;
+        defense = record.defense;
+        experience = record.experience;
+        this.hpCost = hpCost;
+        this.strengthCost = strengthCost;
+        this.speedCost = speedCost;
+        this.defenseCost = defenseCost;
+        notifyListeners(Change.LOADED);
+    }
+
+    public void addListener(Listener listener) {
+        if (!listeners.contains(listener, true)) listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.removeValue(listener, true);
+    }
+
+    public void addExperience(int amount) {
+        experience += amount;
+        notifyListeners(Change.EXPERIENCE);
     }
 
     // ====== методы для прокачки ======
     public boolean upgradeStrength() {
-        return upgradeStat("strength", 20, strengthCost);
+        return upgradeStat(Change.STRENGTH, 20, strengthCost);
     }
 
     public boolean upgradeSpeed() {
-        return upgradeStat("speed", 20, speedCost);
+        return upgradeStat(Change.SPEED, 20, speedCost);
     }
 
     public boolean upgradeDefense() {
-        return upgradeStat("defense", 20, defenseCost);
+        return upgradeStat(Change.DEFENSE, 20, defenseCost);
     }
 
     public boolean upgradeHp() {
-        return upgradeStat("hp", 20, hpCost);
+        return upgradeStat(Change.HP, 20, hpCost);
     }
 
-    private boolean upgradeStat(String statName, int increaseAmount, int cost) {
+    private boolean upgradeStat(Change stat, int increaseAmount, int cost) {
         if (experience < cost) return false; // недостаточно опыта
 
         experience -= cost; // снимаем опыт
 
         // увеличиваем показатель
-        switch (statName) {
-            case "hp" -> hp += increaseAmount;
-            case "strength" -> strength += increaseAmount;
-            case "speed" -> speed += increaseAmount;
-            case "defense" -> defense += increaseAmount;
+        switch (stat) {
+            case HP -> hp += increaseAmount;
+            case STRENGTH -> strength += increaseAmount;
+            case SPEED -> speed += increaseAmount;
+            case DEFENSE -> defense += increaseAmount;
+            default -> { }
         }
 
         // удваиваем стоимость следующего повышения
-        switch (statName) {
-            case "hp" -> hpCost *= 2;
-            case "strength" -> strengthCost *= 2;
-            case "speed" -> speedCost *= 2;
-            case "defense" -> defenseCost *= 2;
-        }
-
-        // сохраняем изменения в базе
-        try (Statement stmt = db.getConnection().createStatement()) {
-            stmt.executeUpdate("UPDATE player SET " +
-                "hp=" + hp + ", " +
-                "strength=" + strength + ", " +
-                "speed=" + speed + ", " +
-                "defense=" + defense + ", " +
-                "experience=" + experience +
-                " WHERE id=1;");
-        } catch (SQLException e) {
-            e.printStackTrace();
+        switch (stat) {
+            case HP -> hpCost *= 2;
+            case STRENGTH -> strengthCost *= 2;
+            case SPEED -> speedCost *= 2;
+            case DEFENSE -> defenseCost *= 2;
+            default -> { }
         }
 
+        // сохранение в базу - дело подписчика (см. Main)
+        notifyListeners(stat);
         return true;
     }
 
+    private void notifyListeners(Change change) {
+        for (int i = 0; i < listeners.size; i++) {
+            listeners.get(i).statsChanged(this, change);
+        }
+    }
+
     // ====== геттеры ======
     public int getHp() { return hp; }
     public int getStrength() { return strength; }
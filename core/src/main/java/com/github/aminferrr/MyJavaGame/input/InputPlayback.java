@@ -0,0 +1,30 @@
+package com.github.aminferrr.MyJavaGame.input;
+
+/** Воспроизводит InputRecording по кадру за вызов next(). */
+public class InputPlayback {
+
+    private final InputRecording recording;
+    private int frame = 0;
+
+    public InputPlayback(InputRecording recording) {
+        this.recording = recording;
+    }
+
+    /** Выставляет в input кнопки очередного кадра и возвращает его delta. */
+    public float next(PlayerInput input) {
+        input.setButtons(recording.getButtons(frame));
+        return recording.getDelta(frame++);
+    }
+
+    public boolean isFinished() {
+        return frame >= recording.size();
+    }
+
+    public int getFrame() {
+        return frame;
+    }
+
+    public InputRecording getRecording() {
+        return recording;
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.aminferrr.MyJavaGame.input;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.github.aminferrr.MyJavaGame.Database;
+import com.github.aminferrr.MyJavaGame.elements.PlayerStats;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Ввод уровня по кадрам: delta кадра и маска кнопок PlayerInput (вместе с
+ * разовыми действиями - прокачкой). Статы игрока на входе в уровень тоже
+ * пишутся: от них зависят урон, смерти и убийства. Уровень с фиксированным
+ * шагом физики и без случайностей из этого восстанавливается кадр в кадр,
+ * если воспроизводить с начала уровня.
+ *
+ * Формат файла: "MJIR", версия, имя уровня (LevelAssets.name), статы игрока
+ * (hp, strength, speed, defense, experience и четыре цены прокачки), число
+ * кадров, затем пары float delta + int кнопки. 8 байт на кадр, минута игры - ~30 КБ.
+ *
+ * В обычной игре ввод не пишется: массивы кадров росли бы весь уровень и
+ * давали мусор на каждом расширении. Запись включается при запуске свойством
+ * -Dmygame.recordInput=true (./gradlew :lwjgl3:run -PrecordInput) и идёт
+ * с начала уровня - иначе её не воспроизвести.
+ */
+public class InputRecording {
+
+    public static final String ENABLED_PROPERTY = "mygame.recordInput";
+
+    private static final int MAGIC = 0x4D4A4952; // "MJIR"
+    private static final int VERSION = 2;
+
+    private final String level;
+    private Database.PlayerRecord startStats = new Database.PlayerRecord();
+    private int[] startCosts = new int[4]; // hp, strength, speed, defense
+    private final FloatArray deltas;
+    private final IntArray buttons;
+
+    /** Писать ли ввод уровней (см. ENABLED_PROPERTY). */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /** Запись с входа в уровень: stats - статы игрока в этот момент. */
+    public InputRecording(String level, PlayerStats stats) {
+        this(level, 60 * 60);
+        startStats.hp = stats.getHp();
+        startStats.strength = stats.getStrength();
+        startStats.speed = stats.getSpeed();
+        startStats.defense = stats.getDefense();
+        startStats.experience = stats.getExperience();
+        startCosts[0] = stats.getHpCost();
+        startCosts[1] = stats.getStrengthCost();
+        startCosts[2] = stats.getSpeedCost();
+        startCosts[3] = stats.getDefenseCost();
+    }
+
+    private InputRecording(String level, int capacity) {
+        this.level = level;
+        this.deltas = new FloatArray(capacity);
+        this.buttons = new IntArray(capacity);
+    }
+
+    public void add(float delta, int frameButtons) {
+        deltas.add(delta);
+        buttons.add(frameButtons);
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    /** Возвращает статы игрока к моменту начала записи. */
+    public void applyStartStats(PlayerStats stats) {
+        stats.restore(startStats, startCosts[0], startCosts[1], startCosts[2], startCosts[3]);
+    }
+
+    public int size() {
+        return deltas.size;
+    }
+
+    public float getDelta(int frame) {
+        return deltas.get(frame);
+    }
+
+    public int getButtons(int frame) {
+        return buttons.get(frame);
+    }
+
+    /** Игровое время записи в секундах. */
+    public float getDuration() {
+        float total = 0f;
+        for (int i = 0; i < deltas.size; i++) total += deltas.get(i);
+        return total;
+    }
+
+    // ===== Файл =====
+
+    public void save(FileHandle file) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.write(false)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(level);
+            out.writeInt(startStats.hp);
+            out.writeInt(startStats.strength);
+            out.writeInt(startStats.speed);
+            out.writeInt(startStats.defense);
+            out.writeInt(startStats.experience);
+            for (int cost : startCosts) out.writeInt(cost);
+            out.writeInt(deltas.size);
+            for (int i = 0; i < deltas.size; i++) {
+                out.writeFloat(deltas.get(i));
+                out.writeInt(buttons.get(i));
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Не удалось записать " + file.path(), e);
+        }
+    }
+
+    public static InputRecording load(FileHandle file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file.read()))) {
+            if (in.readInt() != MAGIC) throw new GdxRuntimeException(file.path() + " - не запись ввода");
+            int version = in.readInt();
+            if (version != VERSION) throw new GdxRuntimeException(file.path() + ": неизвестная версия " + version);
+
+            String level = in.readUTF();
+            Database.PlayerRecord stats = new Database.PlayerRecord();
+            stats.hp = in.readInt();
+            stats.strength = in.readInt();
+            stats.speed = in.readInt();
+            stats.defense = in.readInt();
+            stats.experience = in.readInt();
+            int[] costs = new int[4];
+            for (int i = 0; i < costs.length; i++) costs[i] = in.readInt();
+
+            int frames = in.readInt();
+            InputRecording recording = new InputRecording(level, frames);
+            recording.startStats = stats;
+            recording.startCosts = costs;
+            for (int i = 0; i < frames; i++) {
+                recording.add(in.readFloat(), in.readInt());
+            }
+            return recording;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Не удалось прочитать " + file.path(), e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.aminferrr.MyJavaGame.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * Кнопки игрока в текущем кадре - одно число-маска. Экраны и Player читают
+ * ввод только отсюда, поэтому кадр можно записать (InputRecording) и потом
+ * воспроизвести (InputPlayback) без клавиатуры.
+ *
+ * Кроме удерживаемых кнопок в маске есть разовые действия (прокачка статов):
+ * нажатие ставит бит, экран выполняет действие в своём кадре и снимает его
+ * через clearActions(), поэтому отпускание клавиши до кадра действие не теряет.
+ */
+public class PlayerInput {
+
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int UP = 1 << 2;
+    public static final int DOWN = 1 << 3;
+    public static final int JUMP = 1 << 4;
+    public static final int ATTACK = 1 << 5;
+
+    // Разовые действия
+    public static final int UPGRADE_HP = 1 << 6;
+    public static final int UPGRADE_STRENGTH = 1 << 7;
+    public static final int UPGRADE_SPEED = 1 << 8;
+    public static final int UPGRADE_DEFENSE = 1 << 9;
+    private static final int ACTIONS = UPGRADE_HP | UPGRADE_STRENGTH | UPGRADE_SPEED | UPGRADE_DEFENSE;
+
+    private int buttons = 0;
+
+    public boolean isDown(int button) {
+        return (buttons & button) != 0;
+    }
+
+    public int getButtons() {
+        return buttons;
+    }
+
+    public void setButtons(int buttons) {
+        this.buttons = buttons;
+    }
+
+    public void clear() {
+        buttons = 0;
+    }
+
+    /** Вызывать после того, как кадр выполнил разовые действия. */
+    public void clearActions() {
+        buttons &= ~ACTIONS;
+    }
+
+    // ===== Клавиатура =====
+
+    /** Кнопка для клавиши, 0 - клавиша не игровая. */
+    public static int buttonFor(int keycode) {
+        switch (keycode) {
+            case Input.Keys.A: return LEFT;
+            case Input.Keys.D: return RIGHT;
+            case Input.Keys.W: return UP;
+            case Input.Keys.S: return DOWN;
+            case Input.Keys.SPACE: return JUMP;
+            case Input.Keys.SHIFT_LEFT:
+            case Input.Keys.SHIFT_RIGHT: return ATTACK;
+            default: return 0;
+        }
+    }
+
+    /** Разовое действие для клавиши, 0 - такого нет. */
+    public static int actionFor(int keycode) {
+        switch (keycode) {
+            case Input.Keys.NUM_1: return UPGRADE_HP;
+            case Input.Keys.NUM_2: return UPGRADE_STRENGTH;
+            case Input.Keys.NUM_3: return UPGRADE_SPEED;
+            case Input.Keys.NUM_4: return UPGRADE_DEFENSE;
+            default: return 0;
+        }
+    }
+
+    /** Для InputProcessor.keyDown: true, если клавиша игровая. */
+    public boolean keyDown(int keycode) {
+        int button = buttonFor(keycode) | actionFor(keycode);
+        buttons |= button;
+        return button != 0;
+    }
+
+    public boolean keyUp(int keycode) {
+        int button = buttonFor(keycode);
+        buttons &= ~button;
+        return button != 0;
+    }
+
+    /** Снимает состояние клавиатуры напрямую - для экранов без своего InputProcessor. */
+    public void poll() {
+        buttons &= ACTIONS;
+        if (Gdx.input.isKeyPressed(Input.Keys.A)) buttons |= LEFT;
+        if (Gdx.input.isKeyPressed(Input.Keys.D)) buttons |= RIGHT;
+        if (Gdx.input.isKeyPressed(Input.Keys.W)) buttons |= UP;
+        if (Gdx.input.isKeyPressed(Input.Keys.S)) buttons |= DOWN;
+        if (Gdx.input.isKeyPressed(Input.Keys.SPACE)) buttons |= JUMP;
+        if (Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) || Gdx.input.isKeyPressed(Input.Keys.SHIFT_RIGHT)) {
+            buttons |= ATTACK;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.aminferrr.MyJavaGame.input;
+
+import com.badlogic.gdx.Screen;
+import com.github.aminferrr.MyJavaGame.FrameProfiler;
+
+/** Экран уровня, который умеет проигрывать записанный ввод (бенчмарк, отладка). */
+public interface ReplayableScreen extends Screen {
+
+    /**
+     * Дальше кадры берут кнопки и delta из записи; вызывать до show() - там статы
+     * игрока заменяются записанными (общие PlayerStats, сохраняются в базу).
+     */
+    void startPlayback(InputRecording recording);
+
+    /** true, пока запись не кончилась. */
+    boolean isPlayingBack();
+
+    FrameProfiler getProfiler();
+}
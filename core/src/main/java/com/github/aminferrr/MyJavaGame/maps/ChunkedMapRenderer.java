@@ -0,0 +1,350 @@
+package com.github.aminferrr.MyJavaGame.maps;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Рисует статичные тайловые слои карты из заранее собранной геометрии.
+ *
+ * OrthogonalTiledMapRenderer каждый кадр обходит все видимые клетки всех слоёв
+ * и заново отправляет их вершины через SpriteBatch. Здесь каждый слой при
+ * загрузке режется на чанки CHUNK_SIZE x CHUNK_SIZE клеток, вершины чанка один
+ * раз кладутся в SpriteCache (буфер в видеопамяти), а в кадре рисуются только
+ * чанки, задевающие камеру, - без обхода клеток и без загрузки вершин.
+ * Внутри чанка тайлы сгруппированы по текстуре тайлсета, чтобы чанк рисовался
+ * за столько вызовов, сколько в нём тайлсетов.
+ *
+ * Слои с анимированными тайлами и слои-картинки не кэшируются: их рисует
+ * обычный OrthogonalTiledMapRenderer в том же порядке слоёв. Тайловые слои
+ * с параллаксом (Parallax Factor в Tiled) целиком запекаются в ParallaxLayer.
+ */
+public class ChunkedMapRenderer implements Disposable {
+
+    private static final int CHUNK_SIZE = 16;
+    // Предел одного SpriteCache с индексами (8191 спрайт) - дальше заводим следующий
+    private static final int SPRITES_PER_CACHE = 8000;
+
+    private static final class Chunk {
+        SpriteCache cache;
+        int cacheId;
+        int sprites;
+        final Rectangle bounds = new Rectangle();
+    }
+
+    /** Слой карты: набор чанков, запечённый параллакс или ни то ни другое - тогда рисует запасной рендерер. */
+    private static final class LayerChunks {
+        final MapLayer layer;
+        final Array<Chunk> chunks;
+        final ParallaxLayer parallax;
+        final int[] index; // для fallback.render(int[])
+
+        LayerChunks(MapLayer layer, Array<Chunk> chunks, ParallaxLayer parallax, int index) {
+            this.layer = layer;
+            this.chunks = chunks;
+            this.parallax = parallax;
+            this.index = new int[]{index};
+        }
+    }
+
+    private final TiledMap map;
+    private final float unitScale;
+    private final Array<SpriteCache> caches = new Array<>();
+    private int cacheFill = 0;   // спрайтов в последнем кэше
+    private final Array<LayerChunks> layers = new Array<>();
+    private OrthogonalTiledMapRenderer fallback; // только если есть некэшируемые слои
+    private SpriteBatch batch; // для параллакса и fallback, создаётся по надобности
+
+    private final Sprite sprite = new Sprite();
+    private final Array<Texture> chunkTextures = new Array<>();
+    private final Rectangle viewBounds = new Rectangle();
+    private OrthographicCamera camera;
+
+    // Статистика последнего кадра (для debug-лога)
+    private int chunksDrawn;
+    private int verticesDrawn;
+    private int renderCalls;
+
+    public ChunkedMapRenderer(TiledMap map, float unitScale) {
+        this.map = map;
+        this.unitScale = unitScale;
+        build();
+    }
+
+    // ===== Сборка =====
+
+    private void build() {
+        long start = TimeUtils.nanoTime();
+        int totalSprites = 0;
+        int parallaxLayers = 0;
+
+        for (int i = 0; i < map.getLayers().size(); i++) {
+            MapLayer layer = map.getLayers().get(i);
+            boolean animated = layer instanceof TiledMapTileLayer && hasAnimatedTiles((TiledMapTileLayer) layer);
+
+            if (layer instanceof TiledMapTileLayer && !animated && ParallaxLayer.isParallax(layer)) {
+                ParallaxLayer parallax = ParallaxLayer.bake(map, (TiledMapTileLayer) layer, unitScale, batch());
+                if (parallax != null) {
+                    layers.add(new LayerChunks(layer, null, parallax, i));
+                    parallaxLayers++;
+                } else {
+                    // Не влез в текстуру - OrthogonalTiledMapRenderer умеет параллакс сам
+                    addFallbackLayer(layer, i);
+                }
+            } else if (layer instanceof TiledMapTileLayer && !animated) {
+                Array<Chunk> chunks = buildLayer((TiledMapTileLayer) layer);
+                for (Chunk chunk : chunks) totalSprites += chunk.sprites;
+                layers.add(new LayerChunks(layer, chunks, null, i));
+            } else if (layer instanceof TiledMapTileLayer || layer instanceof TiledMapImageLayer
+                || layer instanceof MapGroupLayer) {
+                addFallbackLayer(layer, i);
+            }
+            // Слои объектов (враги, спавны) не рисуются и в OrthogonalTiledMapRenderer
+        }
+
+        Gdx.app.log("TILES", "Карта собрана в " + caches.size + " SpriteCache: тайлов " + totalSprites
+            + ", параллакс-слоёв " + parallaxLayers
+            + " за " + TimeUtils.timeSinceNanos(start) / 1_000_000f + " мс"
+            + (fallback != null ? " (есть некэшируемые слои)" : ""));
+    }
+
+    private void addFallbackLayer(MapLayer layer, int index) {
+        layers.add(new LayerChunks(layer, null, null, index));
+        if (fallback == null) fallback = new OrthogonalTiledMapRenderer(map, unitScale, batch());
+    }
+
+    private SpriteBatch batch() {
+        if (batch == null) batch = new SpriteBatch();
+        return batch;
+    }
+
+    private Array<Chunk> buildLayer(TiledMapTileLayer layer) {
+        Array<Chunk> chunks = new Array<>();
+        float tileW = layer.getTileWidth() * unitScale;
+        float tileH = layer.getTileHeight() * unitScale;
+        float offsetX = layer.getRenderOffsetX() * unitScale;
+        float offsetY = -layer.getRenderOffsetY() * unitScale;
+        sprite.setColor(1f, 1f, 1f, layer.getOpacity());
+
+        for (int chunkY = 0; chunkY < layer.getHeight(); chunkY += CHUNK_SIZE) {
+            for (int chunkX = 0; chunkX < layer.getWidth(); chunkX += CHUNK_SIZE) {
+                int endX = Math.min(chunkX + CHUNK_SIZE, layer.getWidth());
+                int endY = Math.min(chunkY + CHUNK_SIZE, layer.getHeight());
+
+                int count = countTiles(layer, chunkX, chunkY, endX, endY);
+                if (count == 0) continue;
+
+                Chunk chunk = new Chunk();
+                chunk.cache = cacheWithRoom(count);
+                chunk.cache.beginCache();
+                // Тайлы одного тайлсета подряд: SpriteCache рисует каждую смену текстуры отдельным вызовом
+                collectTextures(layer, chunkX, chunkY, endX, endY);
+                for (Texture texture : chunkTextures) {
+                    for (int y = chunkY; y < endY; y++) {
+                        for (int x = chunkX; x < endX; x++) {
+                            TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                            if (cell == null || cell.getTile() == null) continue;
+                            if (cell.getTile().getTextureRegion().getTexture() != texture) continue;
+                            addTile(chunk.cache, cell, offsetX + x * tileW, offsetY + y * tileH, tileW, tileH);
+                        }
+                    }
+                }
+                chunk.cacheId = chunk.cache.endCache();
+                chunk.sprites = count;
+                chunk.bounds.set(offsetX + chunkX * tileW, offsetY + chunkY * tileH,
+                    (endX - chunkX) * tileW, (endY - chunkY) * tileH);
+                chunks.add(chunk);
+            }
+        }
+        return chunks;
+    }
+
+    private void addTile(SpriteCache cache, TiledMapTileLayer.Cell cell, float x, float y, float tileW, float tileH) {
+        TiledMapTile tile = cell.getTile();
+        TextureRegion region = tile.getTextureRegion();
+        float width = region.getRegionWidth() * unitScale;
+        float height = region.getRegionHeight() * unitScale;
+
+        sprite.setRegion(region);
+        sprite.setBounds(x + tile.getOffsetX() * unitScale, y + tile.getOffsetY() * unitScale, width, height);
+        sprite.setFlip(cell.getFlipHorizontally(), cell.getFlipVertically());
+        // Поворот клетки кратен 90 градусам, вокруг центра тайла
+        sprite.setOrigin(tileW / 2f, tileH / 2f);
+        sprite.setRotation(cell.getRotation() * 90f);
+        cache.add(sprite);
+    }
+
+    private SpriteCache cacheWithRoom(int sprites) {
+        // Чанки кладутся подряд, поэтому место считаем по последнему кэшу
+        if (caches.size == 0 || cacheFill + sprites > SPRITES_PER_CACHE) {
+            caches.add(new SpriteCache(Math.max(SPRITES_PER_CACHE, sprites), true));
+            cacheFill = 0;
+        }
+        cacheFill += sprites;
+        return caches.peek();
+    }
+
+    private void collectTextures(TiledMapTileLayer layer, int startX, int startY, int endX, int endY) {
+        chunkTextures.clear();
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell == null || cell.getTile() == null) continue;
+                Texture texture = cell.getTile().getTextureRegion().getTexture();
+                if (!chunkTextures.contains(texture, true)) chunkTextures.add(texture);
+            }
+        }
+    }
+
+    private static int countTiles(TiledMapTileLayer layer, int startX, int startY, int endX, int endY) {
+        int count = 0;
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() != null) count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean hasAnimatedTiles(TiledMapTileLayer layer) {
+        for (int y = 0; y < layer.getHeight(); y++) {
+            for (int x = 0; x < layer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() instanceof AnimatedTiledMapTile) return true;
+            }
+        }
+        return false;
+    }
+
+    // ===== Отрисовка =====
+
+    public void setView(OrthographicCamera camera) {
+        this.camera = camera;
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        viewBounds.set(camera.position.x - width / 2f, camera.position.y - height / 2f, width, height);
+        if (fallback != null) fallback.setView(camera);
+    }
+
+    public void render() {
+        chunksDrawn = 0;
+        verticesDrawn = 0;
+        renderCalls = 0;
+        if (camera == null) return;
+
+        // Смешивание включается в начале каждой секции кэша (beginCache): участки
+        // SpriteBatch и запасного рендерера выключают его в end()
+        SpriteCache active = null;
+        for (LayerChunks entry : layers) {
+            if (!entry.layer.isVisible()) continue;
+
+            if (entry.parallax != null) {
+                active = endCache(active);
+                batch.setProjectionMatrix(camera.combined);
+                batch.begin();
+                entry.parallax.draw(batch, viewBounds);
+                batch.end();
+                renderCalls += batch.renderCalls;
+                continue;
+            }
+            if (entry.chunks == null) {
+                active = endCache(active);
+                fallback.render(entry.index);
+                continue;
+            }
+
+            for (Chunk chunk : entry.chunks) {
+                if (!viewBounds.overlaps(chunk.bounds)) continue;
+                if (chunk.cache != active) {
+                    endCache(active);
+                    active = beginCache(chunk.cache);
+                }
+                active.draw(chunk.cacheId);
+                chunksDrawn++;
+                verticesDrawn += chunk.sprites * 4;
+            }
+        }
+        endCache(active);
+
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    private SpriteCache beginCache(SpriteCache cache) {
+        // SpriteBatch.end() после параллакса или слоя запасного рендерера выключает
+        // смешивание, а SpriteCache сам его не включает - без этого прозрачные
+        // пиксели тайлов закрасят фон
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(camera.combined);
+        cache.begin();
+        return cache;
+    }
+
+    private SpriteCache endCache(SpriteCache cache) {
+        if (cache != null) {
+            cache.end();
+            renderCalls += cache.renderCalls;
+        }
+        return null;
+    }
+
+    // ===== Статистика =====
+
+    public int getChunksDrawn() { return chunksDrawn; }
+
+    /** Вершин нарисовано из кэша в прошлом кадре - ни одна не загружалась заново. */
+    public int getVerticesDrawn() { return verticesDrawn; }
+
+    public int getRenderCalls() { return renderCalls; }
+
+    /**
+     * Сколько вершин за кадр отправлял бы OrthogonalTiledMapRenderer при той же
+     * камере (видимые непустые клетки x 4, параллакс-слои считаются без сдвига).
+     * Обходит клетки - только для debug-лога.
+     */
+    public int countBatchVertices() {
+        int vertices = 0;
+        for (LayerChunks entry : layers) {
+            if (!entry.layer.isVisible() || !(entry.layer instanceof TiledMapTileLayer)) continue;
+            TiledMapTileLayer layer = (TiledMapTileLayer) entry.layer;
+            float tileW = layer.getTileWidth() * unitScale;
+            float tileH = layer.getTileHeight() * unitScale;
+
+            int startX = Math.max(0, (int) (viewBounds.x / tileW));
+            int endX = Math.min(layer.getWidth(), (int) ((viewBounds.x + viewBounds.width + tileW) / tileW));
+            int startY = Math.max(0, (int) (viewBounds.y / tileH));
+            int endY = Math.min(layer.getHeight(), (int) ((viewBounds.y + viewBounds.height + tileH) / tileH));
+            if (startX < endX && startY < endY) vertices += countTiles(layer, startX, startY, endX, endY) * 4;
+        }
+        return vertices;
+    }
+
+    @Override
+    public void dispose() {
+        for (SpriteCache cache : caches) cache.dispose();
+        caches.clear();
+        for (LayerChunks entry : layers) {
+            if (entry.parallax != null) entry.parallax.dispose();
+        }
+        if (fallback != null) fallback.dispose();
+        if (batch != null) batch.dispose();
+    }
+}
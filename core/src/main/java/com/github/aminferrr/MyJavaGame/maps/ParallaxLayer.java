@@ -0,0 +1,137 @@
+package com.github.aminferrr.MyJavaGame.maps;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.nio.IntBuffer;
+
+/**
+ * Фоновый тайловый слой с параллаксом, запечённый в одну текстуру.
+ *
+ * Слой помечается в Tiled стандартными полями "Parallax Factor" (атрибуты
+ * parallaxx / parallaxy в .tmx): 1 - слой движется вместе с миром, 0 - стоит
+ * на экране. При загрузке все клетки слоя один раз рисуются во FrameBuffer,
+ * а в кадре слой - это одна-две картинки, сдвинутые на view * (1 - factor),
+ * как в OrthogonalTiledMapRenderer, и повторённые по горизонтали, чтобы
+ * медленный слой не оставлял щелей по краям карты.
+ */
+public class ParallaxLayer implements Disposable {
+
+    private final FrameBuffer frameBuffer;
+    private final TextureRegion region;
+    private final float factorX;
+    private final float factorY;
+    private final float offsetX;
+    private final float offsetY;
+    private final float width;   // в единицах мира
+    private final float height;
+
+    private ParallaxLayer(FrameBuffer frameBuffer, TiledMapTileLayer layer, float unitScale) {
+        this.frameBuffer = frameBuffer;
+        // Текстура FrameBuffer перевёрнута по Y
+        this.region = new TextureRegion(frameBuffer.getColorBufferTexture());
+        this.region.flip(false, true);
+        this.factorX = layer.getParallaxX();
+        this.factorY = layer.getParallaxY();
+        this.offsetX = layer.getRenderOffsetX() * unitScale;
+        this.offsetY = -layer.getRenderOffsetY() * unitScale;
+        this.width = layer.getWidth() * layer.getTileWidth() * unitScale;
+        this.height = layer.getHeight() * layer.getTileHeight() * unitScale;
+    }
+
+    /** Помечен ли слой в Tiled как параллаксный. */
+    public static boolean isParallax(MapLayer layer) {
+        return layer.getParallaxX() != 1f || layer.getParallaxY() != 1f;
+    }
+
+    /**
+     * Рисует слой во FrameBuffer размером с карту в пикселях. Возвращает null,
+     * если слой не помещается в текстуру видеокарты - тогда его рисуют как обычно.
+     */
+    public static ParallaxLayer bake(TiledMap map, TiledMapTileLayer layer, float unitScale, SpriteBatch batch) {
+        int pixelWidth = layer.getWidth() * layer.getTileWidth();
+        int pixelHeight = layer.getHeight() * layer.getTileHeight();
+        int maxSize = maxTextureSize();
+        if (pixelWidth > maxSize || pixelHeight > maxSize) {
+            Gdx.app.log("PARALLAX", "Слой " + layer.getName() + " " + pixelWidth + "x" + pixelHeight
+                + " больше текстуры " + maxSize + " - рисуется без параллакса");
+            return null;
+        }
+
+        FrameBuffer frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, pixelWidth, pixelHeight, false);
+        frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+
+        // Слой рисуется в пикселях, от своего левого нижнего угла. Параллакс на время
+        // запекания выключаем - иначе OrthogonalTiledMapRenderer сдвинет слой сам
+        float factorX = layer.getParallaxX();
+        float factorY = layer.getParallaxY();
+        layer.setParallaxX(1f);
+        layer.setParallaxY(1f);
+        float layerX = layer.getRenderOffsetX();
+        float layerY = -layer.getRenderOffsetY();
+        Matrix4 projection = new Matrix4().setToOrtho2D(layerX, layerY, pixelWidth, pixelHeight);
+        OrthogonalTiledMapRenderer tileRenderer = new OrthogonalTiledMapRenderer(map, 1f, batch);
+        tileRenderer.setView(projection, layerX, layerY, pixelWidth, pixelHeight);
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        // Альфу в текстуру пишем как есть, а не умноженной на саму себя
+        batch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+            GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.begin();
+        tileRenderer.renderTileLayer(layer);
+        batch.end();
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        frameBuffer.end();
+        layer.setParallaxX(factorX);
+        layer.setParallaxY(factorY);
+
+        Gdx.app.log("PARALLAX", "Слой " + layer.getName() + " запечён в " + pixelWidth + "x" + pixelHeight
+            + ", factor " + factorX + "/" + factorY);
+        return new ParallaxLayer(frameBuffer, layer, unitScale);
+    }
+
+    private static int maxTextureSize() {
+        IntBuffer buffer = BufferUtils.newIntBuffer(16);
+        Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_SIZE, buffer);
+        return buffer.get(0);
+    }
+
+    /**
+     * Рисует слой в видимую область мира view; batch уже начат с матрицей камеры.
+     * Возвращает число нарисованных копий.
+     */
+    public int draw(SpriteBatch batch, Rectangle view) {
+        float x = offsetX + view.x * (1f - factorX);
+        float y = offsetY + view.y * (1f - factorY);
+        if (y > view.y + view.height || y + height < view.y) return 0;
+
+        // Первая копия, задевающая левый край экрана, и дальше вправо до края
+        float start = x + (float) Math.floor((view.x - x) / width) * width;
+        int copies = 0;
+        for (float copyX = start; copyX < view.x + view.width; copyX += width) {
+            batch.draw(region, copyX, y, width, height);
+            copies++;
+        }
+        return copies;
+    }
+
+    @Override
+    public void dispose() {
+        frameBuffer.dispose();
+    }
+}
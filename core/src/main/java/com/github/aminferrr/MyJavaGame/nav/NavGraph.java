@@ -0,0 +1,233 @@
+package com.github.aminferrr.MyJavaGame.nav;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import com.badlogic.gdx.ai.pfa.Heuristic;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
+import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Граф для наземных врагов, собранный один раз при загрузке уровня из слоя
+ * коллизий: узлы - клетки, где можно стоять, связи - шаг, прыжок на платформу
+ * и спрыгивание с края. Пути ищет IndexedAStarPathFinder, а найденные пути
+ * кэшируются по паре (откуда, куда): граф статичный, поэтому кэш не устаревает,
+ * и враги, бегущие за игроком, почти всегда берут готовый путь.
+ *
+ * Не потокобезопасен; пути из findPath() общие - их только читают.
+ */
+public class NavGraph implements IndexedGraph<NavNode> {
+
+    // Сколько клеток нужно над полом, чтобы враг поместился
+    private static final int HEADROOM = 2;
+    // Прыжок: вверх до 5 клеток и вбок до 4
+    private static final int JUMP_UP = 5;
+    private static final int JUMP_ACROSS = 4;
+    // Спрыгивание: не глубже 8 клеток
+    private static final int MAX_DROP = 8;
+    private static final int MAX_CACHED_PATHS = 1024;
+
+    private static final Heuristic<NavNode> HEURISTIC = (node, end) ->
+        // Любая связь стоит не меньше |dx| + |dy|/2 - оценка не завышает цену
+        Math.abs(end.tileX - node.tileX) + 0.5f * Math.abs(end.tileY - node.tileY);
+
+    private final int width;
+    private final int height;
+    private final float tileW;
+    private final float tileH;
+    private final boolean[] solid;
+    private final NavNode[] nodeAt;       // узел в клетке или null
+    private final Array<NavNode> nodes = new Array<>();
+
+    private IndexedAStarPathFinder<NavNode> pathFinder;
+    private final LongMap<GraphPath<NavNode>> pathCache = new LongMap<>();
+    private final GraphPath<NavNode> noPath = new DefaultGraphPath<>(0);
+    private int linkCount = 0;
+
+    private NavGraph(int width, int height, float tileW, float tileH) {
+        this.width = width;
+        this.height = height;
+        this.tileW = tileW;
+        this.tileH = tileH;
+        this.solid = new boolean[width * height];
+        this.nodeAt = new NavNode[width * height];
+    }
+
+    public static NavGraph build(TiledMapTileLayer layer, float PPM) {
+        long start = TimeUtils.nanoTime();
+        NavGraph graph = new NavGraph(layer.getWidth(), layer.getHeight(),
+            layer.getTileWidth() / PPM, layer.getTileHeight() / PPM);
+
+        for (int x = 0; x < graph.width; x++) {
+            for (int y = 0; y < graph.height; y++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                graph.solid[x + y * graph.width] = cell != null && cell.getTile() != null;
+            }
+        }
+
+        for (int y = 1; y < graph.height; y++) {
+            for (int x = 0; x < graph.width; x++) {
+                if (!graph.isStandable(x, y)) continue;
+                NavNode node = new NavNode(graph.nodes.size, x, y, graph.tileW, graph.tileH);
+                graph.nodes.add(node);
+                graph.nodeAt[x + y * graph.width] = node;
+            }
+        }
+
+        for (NavNode node : graph.nodes) graph.link(node);
+        graph.pathFinder = new IndexedAStarPathFinder<>(graph);
+
+        Gdx.app.log("NAV", "Граф навигации: узлов " + graph.nodes.size + ", связей " + graph.linkCount
+            + " за " + TimeUtils.timeSinceNanos(start) / 1_000_000f + " мс");
+        return graph;
+    }
+
+    // ===== Построение =====
+
+    private void link(NavNode node) {
+        int x = node.tileX;
+        int y = node.tileY;
+
+        for (int dir = -1; dir <= 1; dir += 2) {
+            int nx = x + dir;
+            if (nx < 0 || nx >= width) continue;
+
+            // Шаг по полу
+            NavNode side = node(nx, y);
+            if (side != null) {
+                addLink(node, side, NavLink.Type.WALK, 1f);
+            } else if (!isSolid(nx, y)) {
+                // Край платформы: падаем вниз по соседнему столбцу до первого пола
+                for (int ny = y - 1; ny >= Math.max(1, y - MAX_DROP); ny--) {
+                    if (isSolid(nx, ny)) break;
+                    NavNode below = node(nx, ny);
+                    if (below != null) {
+                        addLink(node, below, NavLink.Type.DROP, 1f + 0.5f * (y - ny));
+                        break;
+                    }
+                }
+            }
+
+            // Прыжки: на уступ выше или через яму (тогда рядом не должно быть пола)
+            boolean gapAhead = side == null;
+            for (int dx = 1; dx <= JUMP_ACROSS; dx++) {
+                int tx = x + dir * dx;
+                if (tx < 0 || tx >= width) break;
+                for (int dy = -MAX_DROP; dy <= JUMP_UP; dy++) {
+                    if (dy <= 0 && (dx == 1 || !gapAhead)) continue; // это шаг или спрыгивание
+                    NavNode target = node(tx, y + dy);
+                    if (target != null && isArcClear(x, y, tx, y + dy)) {
+                        addLink(node, target, NavLink.Type.JUMP, dx + 2f * Math.max(dy, 0) + 0.5f * Math.max(-dy, 0));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Грубая проверка траектории прыжка: над стартом и над всеми клетками по
+     * дороге свободно на высоте верхней из двух точек плюс рост врага.
+     */
+    private boolean isArcClear(int x, int y, int tx, int ty) {
+        int top = Math.max(y, ty);
+        int step = tx > x ? 1 : -1;
+        for (int cx = x; cx != tx + step; cx += step) {
+            int from = cx == x ? y : top;
+            if (cx == tx) from = ty;
+            for (int cy = from; cy < top + HEADROOM; cy++) {
+                if (isSolid(cx, cy)) return false;
+            }
+        }
+        return true;
+    }
+
+    private void addLink(NavNode from, NavNode to, NavLink.Type type, float cost) {
+        from.links.add(new NavLink(from, to, type, cost));
+        linkCount++;
+    }
+
+    private boolean isStandable(int x, int y) {
+        if (!isSolid(x, y - 1)) return false;
+        for (int i = 0; i < HEADROOM; i++) {
+            if (isSolid(x, y + i)) return false;
+        }
+        return true;
+    }
+
+    private boolean isSolid(int x, int y) {
+        if (x < 0 || x >= width || y < 0) return true;
+        if (y >= height) return false; // над картой - открытое небо
+        return solid[x + y * width];
+    }
+
+    private NavNode node(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return null;
+        return nodeAt[x + y * width];
+    }
+
+    // ===== Запросы =====
+
+    /**
+     * Узел, на котором стоит тело с центром в (x, y): клетка тела или первая
+     * клетка с полом ниже (не дальше HEADROOM + 1). null - тело в воздухе над пропастью.
+     */
+    public NavNode nodeAt(float x, float y) {
+        int tx = (int) Math.floor(x / tileW);
+        int ty = (int) Math.floor(y / tileH);
+        for (int i = 0; i <= HEADROOM + 1; i++) {
+            NavNode node = node(tx, ty - i);
+            if (node != null) return node;
+        }
+        return null;
+    }
+
+    /** Путь от start до goal (включая оба узла); пустой, если дойти нельзя. Результат общий - не менять. */
+    public GraphPath<NavNode> findPath(NavNode start, NavNode goal) {
+        long key = ((long) start.index << 32) | goal.index;
+        GraphPath<NavNode> path = pathCache.get(key);
+        if (path != null) return path;
+
+        DefaultGraphPath<NavNode> found = new DefaultGraphPath<>();
+        path = pathFinder.searchNodePath(start, goal, HEURISTIC, found) ? found : noPath;
+
+        // Граф не меняется, так что переполненный кэш проще начать заново, чем вести LRU
+        if (pathCache.size >= MAX_CACHED_PATHS) pathCache.clear();
+        pathCache.put(key, path);
+        return path;
+    }
+
+    /** Тип связи между соседними узлами пути или null, если их не связывает ни одна связь. */
+    public static NavLink linkBetween(NavNode from, NavNode to) {
+        for (int i = 0; i < from.links.size; i++) {
+            Connection<NavNode> link = from.links.get(i);
+            if (link.getToNode() == to) return (NavLink) link;
+        }
+        return null;
+    }
+
+    public int getCachedPathCount() {
+        return pathCache.size;
+    }
+
+    // ===== IndexedGraph =====
+
+    @Override
+    public int getIndex(NavNode node) {
+        return node.index;
+    }
+
+    @Override
+    public int getNodeCount() {
+        return nodes.size;
+    }
+
+    @Override
+    public Array<Connection<NavNode>> getConnections(NavNode node) {
+        return node.links;
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.aminferrr.MyJavaGame.nav;
+
+import com.badlogic.gdx.ai.pfa.DefaultConnection;
+
+/** Переход между клетками графа: шаг, прыжок вверх или спрыгивание с края. */
+public class NavLink extends DefaultConnection<NavNode> {
+
+    public enum Type { WALK, JUMP, DROP }
+
+    public final Type type;
+    private final float cost;
+
+    NavLink(NavNode from, NavNode to, Type type, float cost) {
+        super(from, to);
+        this.type = type;
+        this.cost = cost;
+    }
+
+    @Override
+    public float getCost() {
+        return cost;
+    }
+}
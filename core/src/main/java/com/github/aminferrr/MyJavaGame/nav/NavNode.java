@@ -0,0 +1,24 @@
+package com.github.aminferrr.MyJavaGame.nav;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+
+/** Клетка, на которой можно стоять: пустая, под ней твёрдый тайл, над ней есть место. */
+public class NavNode {
+    public final int index;
+    public final int tileX;
+    public final int tileY;
+    // Середина клетки по x и верх пола под ней, в метрах
+    public final float x;
+    public final float y;
+
+    final Array<Connection<NavNode>> links = new Array<>(false, 4);
+
+    NavNode(int index, int tileX, int tileY, float tileW, float tileH) {
+        this.index = index;
+        this.tileX = tileX;
+        this.tileY = tileY;
+        this.x = (tileX + 0.5f) * tileW;
+        this.y = tileY * tileH;
+    }
+}
@@ -9,6 +9,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonWriter;
@@ -28,10 +29,9 @@ public class DialogueManager {
         public String audio;    // путь к аудио для реплики
     }
 
-    private Array<DialogueLine> story;
+    private final Story story;
+    private Array<DialogueLine> lines; // реплики текущего блока, только пока идёт разговор
     private int currentIndex = 0;
-    private int startIndex = 0;
-    private int endIndex = 0;
 
     private boolean active = false;
     private boolean waitingForAnswer = false; // ждём ввода игрока
@@ -44,7 +44,8 @@ public class DialogueManager {
     private final Image characterImage;
     private final Image background;
 
-    private Sound currentSound; // текущий проигрываемый звук
+    private Sound currentSound; // текущий проигрываемый звук (принадлежит resources)
+    private final DialogueResources resources = new DialogueResources();
 
     private final String PROGRESS_FILE = "progress.json";
     private String currentProgressKey;
@@ -80,27 +81,16 @@ public class DialogueManager {
         dialogueTable.add(textLabel).expandX().fillX();
         dialogueTable.row();
 
-        loadStory();
+        story = Story.load(); // только таблица блоков, реплики - в startDialogue
         loadProgressMap(); // загружаем прогресс
     }
 
-    // ===== Загрузка JSON диалогов =====
-    private void loadStory() {
-        Json json = new Json();
-        try {
-            story = new Array<>(json.fromJson(
-                DialogueLine[].class,
-                Gdx.files.internal("story/story.json")
-            ));
-        } catch (Exception e) {
-            System.out.println("Ошибка загрузки story.json: " + e.getMessage());
-            story = new Array<>();
-        }
-    }
-
     // ===== Запуск диалога =====
-    public void startDialogue(int from, int to, String repeatText, String progressKey) {
-        if (story == null || story.size == 0) return;
+    public void startDialogue(String block, String repeatText, String progressKey) {
+        if (!story.hasBlock(block)) {
+            Gdx.app.error("DIALOGUE", "Нет блока сюжета '" + block + "'");
+            return;
+        }
 
         currentProgressKey = progressKey;
 
@@ -116,13 +106,15 @@ public class DialogueManager {
             return;
         }
 
-        startIndex = Math.max(0, from);
-        endIndex = Math.min(to, story.size - 1);
+        lines = story.getBlock(block);
+        if (lines == null || lines.size == 0) return;
 
-        currentIndex = startIndex;
+        currentIndex = 0;
         active = true;
         waitingForAnswer = false;
 
+        // Портреты и озвучка блока начинают грузиться в фоне
+        resources.startBlock(lines);
         showCurrentLine();
     }
 
@@ -132,8 +124,9 @@ public class DialogueManager {
 
         stopCurrentSound(); // остановка предыдущего звука
 
-        if (currentIndex <= endIndex) {
-            DialogueLine line = story.get(currentIndex);
+        if (currentIndex < lines.size) {
+            DialogueLine line = lines.get(currentIndex);
+            resources.show(currentIndex);
 
             // ===== Если тип "answer" =====
             if ("answer".equals(line.type)) {
@@ -150,18 +143,14 @@ public class DialogueManager {
             waitingForAnswer = false;
             textLabel.setText(line.speaker + ": " + line.text);
 
-            if (line.image != null && !line.image.isEmpty()) {
-                Texture tex = new Texture(Gdx.files.internal(line.image));
-                characterImage.setDrawable(new Image(tex).getDrawable());
-            } else {
-                characterImage.setDrawable(null);
-            }
+            Texture portrait = resources.getPortrait(line.image);
+            characterImage.setDrawable(portrait != null ? new TextureRegionDrawable(portrait) : null);
 
             // ===== Проигрываем озвучку =====
             if (line.audio != null && !line.audio.isEmpty()) {
                 try {
-                    currentSound = Gdx.audio.newSound(Gdx.files.internal(line.audio));
-                    currentSound.play();
+                    currentSound = resources.getVoice(line.audio);
+                    if (currentSound != null) currentSound.play();
                 } catch (Exception e) {
                     System.out.println("Ошибка воспроизведения аудио: " + e.getMessage());
                 }
@@ -225,6 +214,8 @@ public class DialogueManager {
         background.setVisible(false);
 
         stopCurrentSound();
+        resources.endBlock();
+        lines = null;
 
         if (currentProgressKey != null) {
             progressMap.put(currentProgressKey, true);
@@ -232,15 +223,24 @@ public class DialogueManager {
         }
     }
 
+    /** Каждый кадр: доводит фоновую загрузку портретов и озвучки. */
+    public void update() {
+        resources.update();
+    }
+
     // ===== Новый метод: остановка текущего звука =====
     public void stopCurrentSound() {
         if (currentSound != null) {
-            currentSound.stop();
-            currentSound.dispose();
+            currentSound.stop(); // звук выгрузит resources
             currentSound = null;
         }
     }
 
+    public void dispose() {
+        stopCurrentSound();
+        resources.dispose();
+    }
+
     // ===== Геттеры =====
     public boolean isActive() {
         return active;
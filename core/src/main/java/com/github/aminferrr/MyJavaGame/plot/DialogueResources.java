@@ -0,0 +1,168 @@
+package com.github.aminferrr.MyJavaGame.plot;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectLongMap;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * Портреты и озвучка блока диалога. Раньше каждая реплика создавала новую Texture
+ * (и не освобождала её) и декодировала MP3 прямо в момент клика.
+ *
+ * startBlock() ставит в очередь своего AssetManager все портреты блока и озвучку
+ * нескольких следующих реплик: декодирование идёт в его фоновом потоке, update()
+ * из кадра доводит загрузку. Декодированные клипы держатся в LRU под бюджетом
+ * VOICE_BUDGET_BYTES: окно предзагрузки идёт вперёд за репликами, вытесняя давно
+ * проигранные клипы. endBlock() выгружает всё.
+ */
+public class DialogueResources implements Disposable {
+
+    // Сколько декодированной озвучки держать в памяти
+    private static final long VOICE_BUDGET_BYTES = 8L * 1024 * 1024;
+    // MP3/OGG в PCM примерно в 10 раз больше файла (128 кбит/с против 1411 кбит/с)
+    private static final int DECODE_RATIO = 10;
+
+    private final AssetManager assets = new AssetManager(new InternalFileHandleResolver());
+
+    private Array<DialogueManager.DialogueLine> lines;
+
+    // Клипы в кэше (загруженные и в очереди) -> оценка размера в памяти
+    private final ObjectLongMap<String> voiceBytes = new ObjectLongMap<>();
+    // От давно использованного к недавнему
+    private final Array<String> voiceLru = new Array<>();
+    private long voiceBytesTotal = 0;
+    // Озвучка текущей и следующих реплик окна - её не вытесняем
+    private final ObjectSet<String> pinned = new ObjectSet<>();
+    // Отсутствующие файлы - чтобы не писать ошибку на каждой реплике
+    private final ObjectSet<String> missing = new ObjectSet<>();
+
+    // ===== Блок диалога =====
+
+    public void startBlock(Array<DialogueManager.DialogueLine> lines) {
+        endBlock();
+        this.lines = lines;
+
+        for (int i = 0; i < lines.size; i++) {
+            String image = lines.get(i).image;
+            if (exists(image) && !assets.contains(image)) assets.load(image, Texture.class);
+        }
+        show(0);
+    }
+
+    /**
+     * Реплика index стала текущей: её клип - самый свежий в LRU, окно предзагрузки
+     * сдвигается вперёд, пока следующие клипы помещаются в бюджет.
+     */
+    public void show(int index) {
+        if (lines == null) return;
+
+        pinned.clear();
+        for (int i = index; i < lines.size; i++) {
+            String voice = lines.get(i).audio;
+            if (!exists(voice)) continue;
+            pinned.add(voice);
+            if (voiceBytes.containsKey(voice)) continue;
+
+            long bytes = estimateDecodedBytes(voice);
+            // Клип текущей реплики грузим даже сверх бюджета, следующие - догрузим позже
+            if (!makeRoom(bytes) && i > index) break;
+            queueVoice(voice, bytes);
+        }
+
+        String current = lines.get(index).audio;
+        if (voiceBytes.containsKey(current)) touch(current);
+    }
+
+    /** Выгружает портреты и озвучку блока. */
+    public void endBlock() {
+        assets.clear();
+        voiceBytes.clear();
+        voiceLru.clear();
+        voiceBytesTotal = 0;
+        pinned.clear();
+        lines = null;
+    }
+
+    /** Вызывать каждый кадр: переносит загруженное из фонового потока (текстуры - в GPU). */
+    public void update() {
+        try {
+            assets.update();
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("DIALOGUE", "Не удалось загрузить ресурс диалога", e);
+        }
+    }
+
+    // ===== Получение =====
+
+    /** Портрет; если ещё не догрузился - дожидаемся его. null, если файла нет. */
+    public Texture getPortrait(String path) {
+        if (!exists(path)) return null;
+        if (!assets.contains(path)) assets.load(path, Texture.class);
+        return assets.finishLoadingAsset(path);
+    }
+
+    /** Клип озвучки; если ещё не догрузился - дожидаемся его. null, если файла нет. */
+    public Sound getVoice(String path) {
+        if (!exists(path)) return null;
+        if (!voiceBytes.containsKey(path)) queueVoice(path, estimateDecodedBytes(path));
+        Sound sound = assets.finishLoadingAsset(path);
+        touch(path);
+        return sound;
+    }
+
+    // ===== LRU озвучки =====
+
+    private void queueVoice(String path, long bytes) {
+        assets.load(path, Sound.class);
+        voiceBytes.put(path, bytes);
+        voiceLru.add(path);
+        voiceBytesTotal += bytes;
+    }
+
+    private void touch(String path) {
+        voiceLru.removeValue(path, false);
+        voiceLru.add(path);
+    }
+
+    /** Вытесняет давно использованные клипы вне окна; false - места так и не хватило. */
+    private boolean makeRoom(long bytes) {
+        int i = 0;
+        while (voiceBytesTotal + bytes > VOICE_BUDGET_BYTES && i < voiceLru.size) {
+            String path = voiceLru.get(i);
+            if (pinned.contains(path)) {
+                i++;
+                continue;
+            }
+            voiceLru.removeIndex(i);
+            voiceBytesTotal -= voiceBytes.remove(path, 0);
+            assets.unload(path);
+        }
+        return voiceBytesTotal + bytes <= VOICE_BUDGET_BYTES;
+    }
+
+    private static long estimateDecodedBytes(String path) {
+        FileHandle file = Gdx.files.internal(path);
+        long length = file.length();
+        return "wav".equalsIgnoreCase(file.extension()) ? length : length * DECODE_RATIO;
+    }
+
+    private boolean exists(String path) {
+        if (path == null || path.isEmpty() || missing.contains(path)) return false;
+        if (Gdx.files.internal(path).exists()) return true;
+        missing.add(path);
+        Gdx.app.error("DIALOGUE", "Нет файла " + path);
+        return false;
+    }
+
+    @Override
+    public void dispose() {
+        assets.dispose();
+    }
+}
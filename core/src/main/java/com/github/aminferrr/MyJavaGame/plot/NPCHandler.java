@@ -80,7 +80,7 @@ public class NPCHandler {
 
                 if (isNearStoryNpc) {
                     dialogueManager.startDialogue(
-                        0, 13,
+                        "story1",
                         "I said you all...",
                         "story1_completed"
                     );
@@ -91,7 +91,7 @@ public class NPCHandler {
                         "story1_completed")) {
 
                         dialogueManager.startDialogue(
-                            14, 36,
+                            "story3",
                             "...",
                             "story3_completed"
                         );
@@ -107,6 +107,7 @@ public class NPCHandler {
         for (NPC npc : allNpcs) {
             npc.update(delta);
         }
+        dialogueManager.update();
 
         if (!dialogueManager.isActive()) {
             checkPlayerProximity(player);
@@ -205,5 +206,6 @@ public class NPCHandler {
         for (NPC npc : allNpcs) {
             npc.dispose();
         }
+        dialogueManager.dispose();
     }
 }
@@ -0,0 +1,177 @@
+package com.github.aminferrr.MyJavaGame.plot;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.OrderedMap;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Сюжет из именованных блоков - по блоку на разговор ("story1", "story3", ...).
+ *
+ * Игра читает story/story.bin, собранный StoryCompiler из story.json при сборке
+ * (задача :core:compileStory): при открытии - только таблица блоков, реплики
+ * блока читаются по смещению в getBlock() и в памяти живут, пока идёт разговор.
+ * Если story.bin нет (Android, запуск без Gradle), story.json разбирается целиком.
+ *
+ * Формат story.bin: "STRY", версия, начало данных, число блоков, для каждого блока
+ * имя + смещение от начала данных + длина. Блок: число реплик, затем для каждой
+ * byte тип и UTF speaker, text, image, audio (пустая строка - null).
+ */
+public class Story {
+
+    static final String JSON_PATH = "story/story.json";
+    static final String COMPILED_PATH = "story/story.bin";
+
+    static final int MAGIC = 0x53545259; // "STRY"
+    static final int VERSION = 1;
+    static final byte TYPE_MESSAGE = 0;
+    static final byte TYPE_ANSWER = 1;
+
+    // story.bin; null - сюжет разобран из JSON в parsed
+    private final FileHandle file;
+    private int dataStart;
+    private final ObjectIntMap<String> offsets = new ObjectIntMap<>();
+    private final ObjectIntMap<String> lengths = new ObjectIntMap<>();
+
+    private final OrderedMap<String, Array<DialogueManager.DialogueLine>> parsed;
+
+    public static Story load() {
+        FileHandle compiled = Gdx.files.internal(COMPILED_PATH);
+        try {
+            if (compiled.exists()) return open(compiled);
+            Gdx.app.log("DIALOGUE", "Нет " + COMPILED_PATH + ", сюжет читается целиком из " + JSON_PATH);
+            return new Story(parseJson(Gdx.files.internal(JSON_PATH)));
+        } catch (Exception e) {
+            Gdx.app.error("DIALOGUE", "Ошибка загрузки сюжета: " + e.getMessage());
+            return new Story(new OrderedMap<>());
+        }
+    }
+
+    /** Читает только таблицу блоков story.bin. */
+    static Story open(FileHandle file) {
+        try {
+            return new Story(file);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Не удалось прочитать " + file.path(), e);
+        }
+    }
+
+    private Story(FileHandle file) throws IOException {
+        this.file = file;
+        this.parsed = null;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(file.read()))) {
+            if (in.readInt() != MAGIC) throw new GdxRuntimeException(file.path() + " - не файл сюжета");
+            int version = in.readInt();
+            if (version != VERSION) throw new GdxRuntimeException(file.path() + ": неизвестная версия " + version);
+
+            dataStart = in.readInt();
+            int blocks = in.readInt();
+            for (int i = 0; i < blocks; i++) {
+                String name = in.readUTF();
+                offsets.put(name, in.readInt());
+                lengths.put(name, in.readInt());
+            }
+        }
+    }
+
+    private Story(OrderedMap<String, Array<DialogueManager.DialogueLine>> parsed) {
+        this.file = null;
+        this.parsed = parsed;
+    }
+
+    FileHandle getFile() {
+        return file;
+    }
+
+    public boolean hasBlock(String name) {
+        return parsed != null ? parsed.containsKey(name) : offsets.containsKey(name);
+    }
+
+    /** Реплики блока; null, если такого блока нет. Из story.bin каждый раз читается заново. */
+    public Array<DialogueManager.DialogueLine> getBlock(String name) {
+        if (parsed != null) return parsed.get(name);
+
+        int offset = offsets.get(name, -1);
+        if (offset < 0) return null;
+
+        try {
+            return readBlock(offset, lengths.get(name, 0));
+        } catch (IOException e) {
+            Gdx.app.error("DIALOGUE", "Не удалось прочитать блок '" + name + "' из " + file.path(), e);
+            return null;
+        }
+    }
+
+    private Array<DialogueManager.DialogueLine> readBlock(int offset, int length) throws IOException {
+        try (InputStream raw = file.read()) {
+            skipFully(raw, dataStart + offset);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(raw, Math.max(length, 1)));
+
+            int count = in.readInt();
+            Array<DialogueManager.DialogueLine> lines = new Array<>(count);
+            for (int i = 0; i < count; i++) {
+                DialogueManager.DialogueLine line = new DialogueManager.DialogueLine();
+                line.type = in.readByte() == TYPE_ANSWER ? "answer" : "message";
+                line.speaker = readString(in);
+                line.text = readString(in);
+                line.image = readString(in);
+                line.audio = readString(in);
+                lines.add(line);
+            }
+            return lines;
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        String value = in.readUTF();
+        return value.isEmpty() ? null : value;
+    }
+
+    // skip() на потоках assets Android может пропускать меньше запрошенного
+    private static void skipFully(InputStream in, long bytes) throws IOException {
+        while (bytes > 0) {
+            long skipped = in.skip(bytes);
+            if (skipped <= 0) {
+                if (in.read() < 0) throw new EOFException(COMPILED_PATH + " обрезан");
+                skipped = 1;
+            }
+            bytes -= skipped;
+        }
+    }
+
+    // ===== Исходник =====
+
+    /** Разбор story.json: { "имя блока": [реплики], ... } в порядке файла. */
+    static OrderedMap<String, Array<DialogueManager.DialogueLine>> parseJson(FileHandle file) {
+        JsonValue root = new JsonReader().parse(file);
+        if (root == null || !root.isObject()) {
+            throw new GdxRuntimeException(file.path() + ": ожидается объект { \"блок\": [реплики] }");
+        }
+
+        Json json = new Json();
+        OrderedMap<String, Array<DialogueManager.DialogueLine>> blocks = new OrderedMap<>();
+        for (JsonValue block = root.child; block != null; block = block.next) {
+            if (!block.isArray()) throw new GdxRuntimeException(file.path() + ": блок '" + block.name + "' - не массив");
+            if (blocks.containsKey(block.name)) throw new GdxRuntimeException(file.path() + ": блок '" + block.name + "' повторяется");
+
+            Array<DialogueManager.DialogueLine> lines = new Array<>(block.size);
+            for (JsonValue line = block.child; line != null; line = line.next) {
+                lines.add(json.readValue(DialogueManager.DialogueLine.class, line));
+            }
+            blocks.put(block.name, lines);
+        }
+        return blocks;
+    }
+}
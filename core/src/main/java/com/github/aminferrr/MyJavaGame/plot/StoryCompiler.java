@@ -0,0 +1,103 @@
+package com.github.aminferrr.MyJavaGame.plot;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.OrderedMap;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+
+/**
+ * Сборка story.bin из story.json (формат - в Story). Запускается задачей
+ * :core:compileStory без libGDX-приложения, поэтому работает только с File:
+ *
+ *   StoryCompiler assets/story/story.json build/generated/story/story/story.bin
+ *
+ * Ошибки в сюжете (неизвестный тип реплики, пустой блок, слишком длинный текст)
+ * роняют сборку, а не игру посреди разговора.
+ */
+public final class StoryCompiler {
+
+    private StoryCompiler() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Использование: StoryCompiler <story.json> <story.bin>");
+            System.exit(2);
+        }
+        int blocks = compile(new FileHandle(new File(args[0])), new FileHandle(new File(args[1])));
+        System.out.println("Сюжет: " + blocks + " блоков -> " + args[1]);
+    }
+
+    /** Возвращает число блоков. */
+    static int compile(FileHandle source, FileHandle target) {
+        OrderedMap<String, Array<DialogueManager.DialogueLine>> blocks = Story.parseJson(source);
+
+        // Блоки пишутся первыми, чтобы знать их смещения для таблицы
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        try {
+            DataOutputStream dataOut = new DataOutputStream(data);
+            DataOutputStream indexOut = new DataOutputStream(index);
+            for (ObjectMap.Entry<String, Array<DialogueManager.DialogueLine>> block : blocks) {
+                int offset = dataOut.size();
+                writeBlock(dataOut, source, block.key, block.value);
+                indexOut.writeUTF(block.key);
+                indexOut.writeInt(offset);
+                indexOut.writeInt(dataOut.size() - offset);
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Не удалось собрать " + source.path(), e);
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(target.write(false)))) {
+            out.writeInt(Story.MAGIC);
+            out.writeInt(Story.VERSION);
+            out.writeInt(4 * 4 + index.size()); // заголовок из четырёх int + таблица
+            out.writeInt(blocks.size);
+            index.writeTo(out);
+            data.writeTo(out);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Не удалось записать " + target.path(), e);
+        }
+        return blocks.size;
+    }
+
+    private static void writeBlock(DataOutputStream out, FileHandle source, String name,
+                                   Array<DialogueManager.DialogueLine> lines) throws IOException {
+        if (lines.size == 0) throw new GdxRuntimeException(source.path() + ": блок '" + name + "' пустой");
+
+        out.writeInt(lines.size);
+        for (int i = 0; i < lines.size; i++) {
+            DialogueManager.DialogueLine line = lines.get(i);
+            String where = source.path() + ": блок '" + name + "', реплика " + i;
+
+            if (line.type == null || "message".equals(line.type)) {
+                out.writeByte(Story.TYPE_MESSAGE);
+            } else if ("answer".equals(line.type)) {
+                out.writeByte(Story.TYPE_ANSWER);
+            } else {
+                throw new GdxRuntimeException(where + ": неизвестный тип '" + line.type + "'");
+            }
+            writeString(out, where, line.speaker);
+            writeString(out, where, line.text);
+            writeString(out, where, line.image);
+            writeString(out, where, line.audio);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String where, String value) throws IOException {
+        try {
+            out.writeUTF(value != null ? value : "");
+        } catch (UTFDataFormatException e) {
+            throw new GdxRuntimeException(where + ": строка длиннее 64 КБ");
+        }
+    }
+}
@@ -56,7 +56,7 @@ public class FirstScreen implements Screen {
         batch = new SpriteBatch();
         Gdx.input.setInputProcessor(stage);
 
-        db = new Database();
+        db = game.getDatabase();
         Skin skin = new Skin(Gdx.files.internal("uiskin.json"));
 
         // Загружаем музыку
@@ -104,12 +104,10 @@ public class FirstScreen implements Screen {
         continueButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                if (!db.checkPlayerExists()) {
-                    db.insertInitialPlayer("Hero");
-                }
+                game.ensurePlayer("Hero");
                 if (videoPlayer != null) videoPlayer.stop();
                 bgMusic.stop();
-                game.setScreen(new GameScreen(game));
+                game.setScreen(game.getScreenManager().getHub());
             }
         });
 
@@ -118,18 +116,19 @@ public class FirstScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 // Удаляем старые данные
-                db.resetPlayerTable();
+                db.resetCurrentSlot();
                 deleteProgressFile();
 
                 // Создаем нового игрока
                 db.insertInitialPlayer("Hero");
+                game.getPlayerStats().load(db.getPlayer());
 
                 // Скрываем Continue (так как теперь новый игрок, но Continue всё равно будет)
                 continueButton.setVisible(false);
 
                 if (videoPlayer != null) videoPlayer.stop();
                 bgMusic.stop();
-                game.setScreen(new GameScreen(game));
+                game.setScreen(game.getScreenManager().getHub());
             }
         });
 
@@ -203,7 +202,7 @@ public class FirstScreen implements Screen {
                 public void clicked(InputEvent event, float x, float y) {
                     if (videoPlayer != null) videoPlayer.stop();
                     bgMusic.stop();
-                    game.setScreen(new GameScreen(game));
+                    game.setScreen(game.getScreenManager().getHub());
                 }
             });
 
@@ -354,7 +353,6 @@ public class FirstScreen implements Screen {
     public void dispose() {
         if (videoPlayer != null) videoPlayer.dispose();
         stage.dispose();
-        db.close();
         bgMusic.dispose();
         batch.dispose();
     }
@@ -8,7 +8,6 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -22,9 +21,13 @@ import com.badlogic.gdx.Preferences;
 
 import com.github.aminferrr.MyJavaGame.Main;
 import com.github.aminferrr.MyJavaGame.Database;
+import com.github.aminferrr.MyJavaGame.HudLabel;
+import com.github.aminferrr.MyJavaGame.LevelAssets;
 import com.github.aminferrr.MyJavaGame.elements.Player;
 import com.github.aminferrr.MyJavaGame.elements.PlayerStats;
+import com.github.aminferrr.MyJavaGame.input.PlayerInput;
 import com.github.aminferrr.MyJavaGame.screens.PlayingScreen;
+import com.github.aminferrr.MyJavaGame.maps.ChunkedMapRenderer;
 import com.github.aminferrr.MyJavaGame.maps.GameMapScreen1;
 import com.github.aminferrr.MyJavaGame.plot.NPCHandler;
 import com.github.aminferrr.MyJavaGame.screens.Level2Screen;
@@ -36,7 +39,7 @@ public class GameScreen implements Screen {
     private OrthographicCamera camera;
     private FitViewport viewport;
 
-    private OrthogonalTiledMapRenderer mapRenderer;
+    private ChunkedMapRenderer mapRenderer; // тайлы собраны в SpriteCache при загрузке
     private TiledMapTileLayer buildsLayer;
 
     private final SpriteBatch batch;
@@ -45,6 +48,7 @@ public class GameScreen implements Screen {
     private final Database db;
     private final PlayerStats playerStats;
     private final Player player;
+    private final PlayerInput input = new PlayerInput(); // клавиатура опрашивается раз за кадр
 
     private final GameMapScreen1 gameMap;
 
@@ -54,8 +58,9 @@ public class GameScreen implements Screen {
 
     // ===== UI элементы для статистики =====
     private Table statsTable;
-    private Label hpLabel, strengthLabel, speedLabel, defenseLabel, expLabel;
-    private Label hpCostLabel, strengthCostLabel, speedCostLabel, defenseCostLabel;
+    // Метки обновляются каждый кадр, но перестраиваются только при смене чисел
+    private HudLabel hpLabel, strengthLabel, speedLabel, defenseLabel, expLabel;
+    private HudLabel hpCostLabel, strengthCostLabel, speedCostLabel, defenseCostLabel;
     private TextButton hpButton, strengthButton, speedButton, defenseButton;
 
     // Кнопки в правом верхнем углу
@@ -64,6 +69,9 @@ public class GameScreen implements Screen {
     private Window settingsWindow;
 
     private NPCHandler npcHandler;
+    // Таблица статов перерисовывается только когда статы реально меняются
+    private final PlayerStats.Listener statsListener = this::onStatsChanged;
+    private InputMultiplexer inputMultiplexer;
 
     // ===== Поле ввода ответа =====
     private final TextField answerField;
@@ -87,11 +95,11 @@ public class GameScreen implements Screen {
         batch = new SpriteBatch();
         font = new BitmapFont();
 
-        db = new Database();
-        playerStats = new PlayerStats(db);
+        db = game.getDatabase();
+        playerStats = game.getPlayerStats();
 
         gameMap = new GameMapScreen1();
-        mapRenderer = new OrthogonalTiledMapRenderer(gameMap.getMap(), 1f);
+        mapRenderer = new ChunkedMapRenderer(gameMap.getMap(), 1f);
         buildsLayer = gameMap.getBuildsLayer();
 
         player = new Player(playerStats);
@@ -117,6 +125,7 @@ public class GameScreen implements Screen {
 
         // ===== Создаем таблицу со статистикой =====
         createStatsTable();
+        playerStats.addListener(statsListener);
 
         // ===== Кнопки Levels и Settings в правом верхнем углу =====
         createTopButtons();
@@ -152,6 +161,7 @@ public class GameScreen implements Screen {
         // ===== Input =====
         // ===== Input =====
         InputMultiplexer multiplexer = new InputMultiplexer();
+        inputMultiplexer = multiplexer;
 
 // ВАЖНО: stage должен быть ПЕРВЫМ, чтобы кнопка Talk получала события
         multiplexer.addProcessor(stage);      // Сначала stage (кнопка Talk, диалоги)
@@ -178,17 +188,18 @@ public class GameScreen implements Screen {
         statsTable.pad(10);
 
         // Создаем метки для значений
-        hpLabel = new Label("HP: " + player.getHealth() + "/" + playerStats.getHp(), skin);
-        strengthLabel = new Label("STR: " + playerStats.getStrength(), skin);
-        speedLabel = new Label("SPD: " + playerStats.getSpeed(), skin);
-        defenseLabel = new Label("DEF: " + playerStats.getDefense(), skin);
-        expLabel = new Label("EXP: " + playerStats.getExperience(), skin);
+        hpLabel = new HudLabel("HP: ", skin);
+        strengthLabel = new HudLabel("STR: ", skin);
+        speedLabel = new HudLabel("SPD: ", skin);
+        defenseLabel = new HudLabel("DEF: ", skin);
+        expLabel = new HudLabel("EXP: ", skin);
 
         // Создаем метки для стоимости
-        hpCostLabel = new Label("Cost: " + playerStats.getHpCost(), skin);
-        strengthCostLabel = new Label("Cost: " + playerStats.getStrengthCost(), skin);
-        speedCostLabel = new Label("Cost: " + playerStats.getSpeedCost(), skin);
-        defenseCostLabel = new Label("Cost: " + playerStats.getDefenseCost(), skin);
+        hpCostLabel = new HudLabel("Cost: ", skin);
+        strengthCostLabel = new HudLabel("Cost: ", skin);
+        speedCostLabel = new HudLabel("Cost: ", skin);
+        defenseCostLabel = new HudLabel("Cost: ", skin);
+        updateStatsLabels();
 
         // Создаем кнопки
         hpButton = new TextButton("UP", skin);
@@ -201,16 +212,13 @@ public class GameScreen implements Screen {
             public void clicked(InputEvent event, float x, float y) {
                 if (playerStats.upgradeHp()) {
                     player.setMaxHealth(playerStats.getHp());
-                    updateStatsLabels();
                 }
             }
         });
 
         strengthButton.addListener(new ClickListener() {
             public void clicked(InputEvent event, float x, float y) {
-                if (playerStats.upgradeStrength()) {
-                    updateStatsLabels();
-                }
+                playerStats.upgradeStrength();
             }
         });
 
@@ -218,56 +226,62 @@ public class GameScreen implements Screen {
             public void clicked(InputEvent event, float x, float y) {
                 if (playerStats.upgradeSpeed()) {
                     player.setSpeed(playerStats.getSpeed());
-                    updateStatsLabels();
                 }
             }
         });
 
         defenseButton.addListener(new ClickListener() {
             public void clicked(InputEvent event, float x, float y) {
-                if (playerStats.upgradeDefense()) {
-                    updateStatsLabels();
-                }
+                playerStats.upgradeDefense();
             }
         });
 
         // Добавляем все в таблицу
-        statsTable.add(hpLabel).left().padRight(20);
-        statsTable.add(hpCostLabel).padRight(10);
+        statsTable.add(hpLabel.getLabel()).left().padRight(20);
+        statsTable.add(hpCostLabel.getLabel()).padRight(10);
         statsTable.add(hpButton).width(40).height(25).padRight(20);
         statsTable.row().padTop(5);
 
-        statsTable.add(strengthLabel).left().padRight(20);
-        statsTable.add(strengthCostLabel).padRight(10);
+        statsTable.add(strengthLabel.getLabel()).left().padRight(20);
+        statsTable.add(strengthCostLabel.getLabel()).padRight(10);
         statsTable.add(strengthButton).width(40).height(25).padRight(20);
         statsTable.row().padTop(5);
 
-        statsTable.add(speedLabel).left().padRight(20);
-        statsTable.add(speedCostLabel).padRight(10);
+        statsTable.add(speedLabel.getLabel()).left().padRight(20);
+        statsTable.add(speedCostLabel.getLabel()).padRight(10);
         statsTable.add(speedButton).width(40).height(25).padRight(20);
         statsTable.row().padTop(5);
 
-        statsTable.add(defenseLabel).left().padRight(20);
-        statsTable.add(defenseCostLabel).padRight(10);
+        statsTable.add(defenseLabel.getLabel()).left().padRight(20);
+        statsTable.add(defenseCostLabel.getLabel()).padRight(10);
         statsTable.add(defenseButton).width(40).height(25).padRight(20);
         statsTable.row().padTop(10);
 
-        statsTable.add(expLabel).left().colspan(3);
+        statsTable.add(expLabel.getLabel()).left().colspan(3);
 
         uiStage.addActor(statsTable);
     }
 
+    private void onStatsChanged(PlayerStats stats, PlayerStats.Change change) {
+        // Новая игра из меню: хаб жив, поэтому персонажа подтягиваем к свежим статам
+        if (change == PlayerStats.Change.LOADED) {
+            player.setMaxHealth(stats.getHp());
+            player.setSpeed(stats.getSpeed());
+        }
+        updateStatsLabels();
+    }
+
     private void updateStatsLabels() {
-        hpLabel.setText("HP: " + player.getHealth() + "/" + playerStats.getHp());
-        strengthLabel.setText("STR: " + playerStats.getStrength());
-        speedLabel.setText("SPD: " + playerStats.getSpeed());
-        defenseLabel.setText("DEF: " + playerStats.getDefense());
-        expLabel.setText("EXP: " + playerStats.getExperience());
-
-        hpCostLabel.setText("Cost: " + playerStats.getHpCost());
-        strengthCostLabel.setText("Cost: " + playerStats.getStrengthCost());
-        speedCostLabel.setText("Cost: " + playerStats.getSpeedCost());
-        defenseCostLabel.setText("Cost: " + playerStats.getDefenseCost());
+        hpLabel.set(player.getHealth(), playerStats.getHp());
+        strengthLabel.set(playerStats.getStrength());
+        speedLabel.set(playerStats.getSpeed());
+        defenseLabel.set(playerStats.getDefense());
+        expLabel.set(playerStats.getExperience());
+
+        hpCostLabel.set(playerStats.getHpCost());
+        strengthCostLabel.set(playerStats.getStrengthCost());
+        speedCostLabel.set(playerStats.getSpeedCost());
+        defenseCostLabel.set(playerStats.getDefenseCost());
     }
 
     private void loadSounds() {
@@ -359,10 +373,10 @@ public class GameScreen implements Screen {
 
                     switch (level) {
                         case 1:
-                            game.setScreen(new PlayingScreen(game));
+                            game.setScreen(new LoadingScreen(game, LevelAssets.LEVEL_1, () -> new PlayingScreen(game)));
                             break;
                         case 2:
-                            game.setScreen(new Level2Screen(game));
+                            game.setScreen(new LoadingScreen(game, LevelAssets.LEVEL_2, () -> new Level2Screen(game)));
                             break;
                         default:
                             Gdx.app.log("LEVEL", "Level " + level + " not implemented");
@@ -470,11 +484,15 @@ public class GameScreen implements Screen {
 
     @Override
     public void render(float delta) {
-        // Обновляем статистику каждый кадр
-        updateStatsLabels();
+        // Если игрок вернулся в хаб, следующий уровень догружается здесь
+        game.getLevelPrefetcher().update();
+
+        // Здоровье меняется в игре, остальные статы - по событиям PlayerStats
+        hpLabel.set(player.getHealth(), playerStats.getHp());
 
         if (!npcHandler.isDialogueActive()) {
-            player.update(delta);
+            input.poll();
+            player.update(delta, input);
 
             if (player.isDead()) {
                 player.respawn();
@@ -561,6 +579,9 @@ public class GameScreen implements Screen {
 
     @Override
     public void show() {
+        // Хаб переиспользуется (ScreenManager): после уровня возвращаем ввод
+        Gdx.input.setInputProcessor(inputMultiplexer);
+
         if (backgroundMusic != null && !backgroundMusic.isPlaying()) {
             backgroundMusic.setVolume(musicVolume);
             backgroundMusic.play();
@@ -584,6 +605,7 @@ public class GameScreen implements Screen {
 
     @Override
     public void dispose() {
+        playerStats.removeListener(statsListener);
         batch.dispose();
         font.dispose();
         player.dispose();
@@ -591,7 +613,6 @@ public class GameScreen implements Screen {
         stage.dispose();
         uiStage.dispose();
         skin.dispose();
-        db.close();
         mapRenderer.dispose();
         gameMap.dispose();
 
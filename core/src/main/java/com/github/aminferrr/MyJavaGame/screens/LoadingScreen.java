@@ -0,0 +1,147 @@
+package com.github.aminferrr.MyJavaGame.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+
+import com.github.aminferrr.MyJavaGame.EnemyAnimationCache;
+import com.github.aminferrr.MyJavaGame.LevelAssets;
+import com.github.aminferrr.MyJavaGame.LevelPrefetcher;
+import com.github.aminferrr.MyJavaGame.Main;
+import com.github.aminferrr.MyJavaGame.PhaseTimer;
+
+import java.util.function.Supplier;
+
+/**
+ * Экран загрузки уровня: ставит ресурсы уровня в очередь AssetManager и
+ * догружает их понемногу каждый кадр, рисуя полоску прогресса.
+ * Спрайт-листы врагов (и страница атласа вместе с первым из них) идут мимо
+ * AssetManager, поэтому берутся здесь же по одному типу за кадр, как в
+ * LevelPrefetcher, - show() уровня потом только добавляет к ним ссылки.
+ * Когда всё загружено, создаёт экран уровня и переключается на него.
+ */
+public class LoadingScreen extends ScreenAdapter {
+
+    // Сколько миллисекунд кадра отдаём AssetManager, чтобы окно не подвисало
+    private static final int UPDATE_BUDGET_MS = 12;
+
+    private final Main game;
+    private final LevelAssets level;
+    private final Supplier<Screen> nextScreen;
+    private final AssetManager assets;
+
+    private ScreenViewport viewport;
+    private ShapeRenderer shapeRenderer;
+    private SpriteBatch batch;
+    private BitmapFont font;
+
+    private PhaseTimer timer;
+    private int acquiredEnemyTypes = 0;
+    private boolean finished = false;
+
+    public LoadingScreen(Main game, LevelAssets level, Supplier<Screen> nextScreen) {
+        this.game = game;
+        this.level = level;
+        this.nextScreen = nextScreen;
+        this.assets = game.getAssetManager();
+    }
+
+    @Override
+    public void show() {
+        viewport = new ScreenViewport();
+        viewport.update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
+        shapeRenderer = new ShapeRenderer();
+        batch = new SpriteBatch();
+        font = new BitmapFont();
+
+        timer = new PhaseTimer("LOAD");
+        if (game.getLevelPrefetcher().isReady(level)) {
+            Gdx.app.log("LOAD", level.name + " уже подгружен в фоне");
+        }
+        level.queue(assets);
+        Gdx.app.log("LOAD", "Загрузка " + level.name + ": в очереди " + assets.getQueuedAssets() + " ресурсов");
+    }
+
+    @Override
+    public void render(float delta) {
+        if (finished) return;
+
+        boolean done = assets.update(UPDATE_BUDGET_MS);
+        if (done && acquiredEnemyTypes < level.enemyTypes.length) {
+            EnemyAnimationCache.acquire(level.enemyTypes[acquiredEnemyTypes]);
+            acquiredEnemyTypes++;
+            done = false;
+        }
+        // Каждый тип врага - такой же шаг полоски, как вся очередь AssetManager
+        float progress = (assets.getProgress() + acquiredEnemyTypes) / (1 + level.enemyTypes.length);
+
+        ScreenUtils.clear(0.05f, 0.05f, 0.1f, 1);
+
+        float barWidth = viewport.getWorldWidth() * 0.6f;
+        float barHeight = 20f;
+        float barX = (viewport.getWorldWidth() - barWidth) / 2f;
+        float barY = viewport.getWorldHeight() / 2f - barHeight / 2f;
+
+        shapeRenderer.setProjectionMatrix(viewport.getCamera().combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(barX, barY, barWidth, barHeight);
+        shapeRenderer.setColor(Color.CYAN);
+        shapeRenderer.rect(barX, barY, barWidth * progress, barHeight);
+        shapeRenderer.end();
+
+        batch.setProjectionMatrix(viewport.getCamera().combined);
+        batch.begin();
+        font.draw(batch, level.name + " - " + (int) (progress * 100) + "%", barX, barY + barHeight + 25);
+        batch.end();
+
+        if (done) {
+            finished = true;
+            timer.mark("Ресурсы (карта, тайлсеты, звук, скин, листы врагов)");
+
+            // show() уровня строит физику, врагов и UI - это тоже часть загрузки
+            game.setScreen(nextScreen.get());
+            timer.mark("Создание мира уровня");
+            timer.finish();
+
+            // Экран уровня уже взял анимации врагов, наши ссылки больше не нужны
+            releaseEnemyAnimations();
+
+            // Экран уровня держит свои ссылки на ресурсы, префетчер переключается на следующий уровень
+            LevelPrefetcher prefetcher = game.getLevelPrefetcher();
+            prefetcher.handOver(level);
+            prefetcher.prefetch(level.next());
+        }
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, height, true);
+    }
+
+    private void releaseEnemyAnimations() {
+        for (int i = 0; i < acquiredEnemyTypes; i++) {
+            EnemyAnimationCache.release(level.enemyTypes[i]);
+        }
+        acquiredEnemyTypes = 0;
+    }
+
+    @Override
+    public void dispose() {
+        // Загрузку прервали (выход из игры) - листы, взятые для уровня, отпускаются
+        releaseEnemyAnimations();
+        if (shapeRenderer != null) shapeRenderer.dispose();
+        if (batch != null) batch.dispose();
+        if (font != null) font.dispose();
+        shapeRenderer = null;
+        batch = null;
+        font = null;
+    }
+}
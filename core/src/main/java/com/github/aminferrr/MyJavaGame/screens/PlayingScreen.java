@@ -1,20 +1,25 @@
 package com.github.aminferrr.MyJavaGame.screens;
 
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.*;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.*;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -32,13 +37,35 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.Preferences;
 
 import com.github.aminferrr.MyJavaGame.Main;
+import com.github.aminferrr.MyJavaGame.ContactRouter;
 import com.github.aminferrr.MyJavaGame.Database;
 import com.github.aminferrr.MyJavaGame.elements.PlayerStats;
-import com.github.aminferrr.MyJavaGame.Enemy;
+import com.github.aminferrr.MyJavaGame.EnemyActivator;
+import com.github.aminferrr.MyJavaGame.FixtureType;
+import com.github.aminferrr.MyJavaGame.LevelAssets;
+import com.github.aminferrr.MyJavaGame.PhaseTimer;
+import com.github.aminferrr.MyJavaGame.FrameProfiler;
+import com.github.aminferrr.MyJavaGame.HudLabel;
+import com.github.aminferrr.MyJavaGame.PhysicsStepper;
+import com.github.aminferrr.MyJavaGame.SpatialHash;
 import com.github.aminferrr.MyJavaGame.Player;
+import com.github.aminferrr.MyJavaGame.SpriteAtlas;
+import com.github.aminferrr.MyJavaGame.TileCollisionBuilder;
+import com.github.aminferrr.MyJavaGame.ecs.EnemyAISystem;
+import com.github.aminferrr.MyJavaGame.input.InputPlayback;
+import com.github.aminferrr.MyJavaGame.input.InputRecording;
+import com.github.aminferrr.MyJavaGame.input.PlayerInput;
+import com.github.aminferrr.MyJavaGame.input.ReplayableScreen;
+import com.github.aminferrr.MyJavaGame.ecs.EnemyAnimationSystem;
+import com.github.aminferrr.MyJavaGame.ecs.EnemyComponent;
+import com.github.aminferrr.MyJavaGame.ecs.EnemyFactory;
+import com.github.aminferrr.MyJavaGame.ecs.EnemyRenderSystem;
+import com.github.aminferrr.MyJavaGame.ecs.Mappers;
+import com.github.aminferrr.MyJavaGame.maps.ChunkedMapRenderer;
+import com.github.aminferrr.MyJavaGame.nav.NavGraph;
 import com.github.aminferrr.MyJavaGame.screens.GameScreen;
 
-public class PlayingScreen extends ScreenAdapter implements InputProcessor {
+public class PlayingScreen extends ScreenAdapter implements InputProcessor, ReplayableScreen {
 
     private final Main game;
 
@@ -46,30 +73,51 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
     private FitViewport viewport;
 
     private TiledMap map;
-    private OrthogonalTiledMapRenderer renderer;
+    private ChunkedMapRenderer renderer; // тайлы собраны в SpriteCache при загрузке
 
     private static final float VIEW_W = 40f;
     private static final float VIEW_H = 22.5f;
     private final float PPM = 16f;
 
     private World world;
+    private PhysicsStepper physicsStepper;
+    private final Runnable savePhysicsPositions = this::savePhysicsPositions;
     private Box2DDebugRenderer debugRenderer;
 
     private Player player;
-    private Array<Enemy> enemies;
+    // Враги - сущности Ashley: данные в компонентах, поведение и отрисовка в системах
+    private Engine enemyEngine;
+    private EnemyFactory enemyFactory;
+    private EnemyRenderSystem enemyRenderSystem;
+    private ImmutableArray<Entity> enemies;
+    private NavGraph navGraph;
+    // Враги в сетке по позиции тела: удар игрока проверяет только соседние клетки
+    private final SpatialHash<Entity> enemyGrid = new SpatialHash<>(ENEMY_GRID_CELL);
+    private final Array<Entity> nearbyEnemies = new Array<>();
+    private static final float ENEMY_GRID_CELL = 4f;
+    // Враги дальше этого запаса за краем экрана не обновляются и не симулируются
+    private static final float ENEMY_ACTIVATION_MARGIN = 8f;
+    private final EnemyActivator enemyActivator = new EnemyActivator(ENEMY_ACTIVATION_MARGIN);
 
     private SpriteBatch batch;
+    private int batchRenderCalls = 0; // сколько раз batch сбрасывался в прошлом кадре
     private BitmapFont font;
 
-    private boolean leftPressed, rightPressed, jumpPressed, attackPressed;
+    // Кнопки кадра. С -Dmygame.recordInput=true ввод пишется с начала уровня (8 байт на кадр),
+    // F6 сохраняет запись в recordings/
+    private final PlayerInput input = new PlayerInput();
+    private InputRecording recording; // null - запись выключена (InputRecording.isEnabled)
+    private InputPlayback playback; // не null - кнопки и delta идут из записи (бенчмарк)
 
     private float mapWidth;
     private float mapHeight;
 
     private float cameraLerp = 0.1f;
     private boolean debugMode = false;
+    private FrameProfiler profiler; // оверлей в debug-режиме, F9 - запись кадров в CSV
 
-    private boolean playerGrounded = false;
+    private int footContacts = 0;               // сколько фикстур сейчас под ногами
+    private final Vector2 knockback = new Vector2();
 
     private int score = 0;
     private Vector2 playerSpawn;
@@ -85,6 +133,7 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
     // ===== UI Stage =====
     private Stage uiStage;
     private Skin skin;
+    private AssetManager assets;
     private Window pauseWindow;
     private Window settingsWindow;
     private TextButton pauseButton;
@@ -101,7 +150,11 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
     private float soundVolume = 0.5f;
     // ===== UI элементы для статистики =====
     private Table statsTable;
-    private Label scoreLabel, hpLabel, expLabel;
+    private HudLabel scoreLabel, hpLabel, expLabel;
+    // Опыт в таблице обновляется по событию PlayerStats, а не опросом базы
+    private final PlayerStats.Listener statsListener = (stats, change) -> {
+        if (expLabel != null) expLabel.set(stats.getExperience());
+    };
 
     public PlayingScreen(Main game) {
         this.game = game;
@@ -113,11 +166,16 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
         viewport = new FitViewport(VIEW_W, VIEW_H, camera);
         viewport.apply();
 
-        map = new TmxMapLoader().load("maps/mapAsset2/PlayingMap.tmx");
-        renderer = new OrthogonalTiledMapRenderer(map, 1f / PPM);
+        // Карта, звуки и скин уже загружены в LoadingScreen, здесь только берём их из AssetManager
+        PhaseTimer timer = new PhaseTimer("LOAD");
+        assets = game.getAssetManager();
+        map = assets.get(LevelAssets.LEVEL_1.mapPath, TiledMap.class);
+        renderer = new ChunkedMapRenderer(map, 1f / PPM);
 
         world = new World(new Vector2(0, -15f), true);
+        physicsStepper = new PhysicsStepper(world);
         debugRenderer = new Box2DDebugRenderer();
+        profiler = new FrameProfiler();
 
         setupContactListener();
 
@@ -127,7 +185,7 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
 
         // ===== UI Stage =====
         uiStage = new Stage(new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
-        skin = new Skin(Gdx.files.internal("uiskin.json"));
+        skin = assets.get(LevelAssets.SKIN, Skin.class);
 
         // ===== Загружаем настройки звука =====
         soundPrefs = Gdx.app.getPreferences("MyGameSettings");
@@ -146,20 +204,41 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
         mapHeight = (tilesH * tileH) / PPM;
 
         createCollisionsFromTileLayer();
+        timer.mark("Физика и коллизии");
 
         player = new Player(world);
         playerSpawn = player.body.getPosition().cpy();
 
-        database = new Database();
-        database.insertInitialPlayer("Hero");
-        playerStats = new PlayerStats(database);
+        database = game.getDatabase();
+        playerStats = game.ensurePlayer("Hero");
+        // Воспроизведение начинается с тех статов, с какими уровень записывали
+        if (playback != null) playback.getRecording().applyStartStats(playerStats);
         player.health = playerStats.getHp();
+        // Воспроизведение не пишется заново
+        if (playback == null && InputRecording.isEnabled()) {
+            recording = new InputRecording(LevelAssets.LEVEL_1.name, playerStats);
+        }
+        timer.mark("База данных");
 
         // Передаем звуки игроку
         player.setSounds(attackSound, jumpSound, playerHurtSound);
 
-        enemies = new Array<>();
+        enemyEngine = new Engine();
+        enemyEngine.addSystem(new EnemyAISystem(player, navGraph));
+        enemyEngine.addSystem(new EnemyAnimationSystem());
+        enemyRenderSystem = new EnemyRenderSystem();
+        enemyEngine.addSystem(enemyRenderSystem);
+        // Анимации врагов держит экран до dispose(), враги их только одалживают
+        LevelAssets.LEVEL_1.acquireEnemyAnimations();
+        enemyFactory = new EnemyFactory(enemyEngine, world);
+        enemies = enemyEngine.getEntitiesFor(EnemyFactory.ENEMIES);
+
         createEnemiesFromTiled();
+        for (Entity enemy : enemies) {
+            Vector2 enemyPos = Mappers.body.get(enemy).body.getPosition();
+            enemyGrid.insert(enemy, enemyPos.x, enemyPos.y);
+        }
+        timer.mark("Враги");
 
         // ===== Создаем UI элементы =====
         createUI();
@@ -168,32 +247,33 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
 
 
         createStatsTable();  // ДОБАВЬТЕ ЭТУ СТРОКУ
+        playerStats.addListener(statsListener);
+        timer.mark("UI");
 
         Gdx.input.setInputProcessor(new InputMultiplexer(uiStage, this));
 
         Gdx.input.setInputProcessor(new InputMultiplexer(uiStage, this));
 
         updateCamera();
+        timer.finish();
 
         Gdx.app.log("INFO", "Игра загружена. Размер карты: " + mapWidth + " x " + mapHeight);
     }
 
     private void loadSounds() {
-        try {
-            backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal("audio/music/soundtrack.mp3"));
+        backgroundMusic = LevelAssets.getOrNull(assets, LevelAssets.LEVEL_1.musicPath, Music.class);
+        if (backgroundMusic != null) {
             backgroundMusic.setLooping(true);
             backgroundMusic.setVolume(musicVolume);
             backgroundMusic.play();
+        }
 
-            attackSound = Gdx.audio.newSound(Gdx.files.internal("audio/sounds/attack.mp3"));
-            jumpSound = Gdx.audio.newSound(Gdx.files.internal("audio/sounds/jump.mp3"));
-            enemyDeathSound = Gdx.audio.newSound(Gdx.files.internal("audio/sounds/enemy_death.mp3"));
-            playerHurtSound = Gdx.audio.newSound(Gdx.files.internal("audio/sounds/player_hurt.mp3"));
+        attackSound = LevelAssets.getOrNull(assets, LevelAssets.ATTACK_SOUND, Sound.class);
+        jumpSound = LevelAssets.getOrNull(assets, LevelAssets.JUMP_SOUND, Sound.class);
+        enemyDeathSound = LevelAssets.getOrNull(assets, LevelAssets.ENEMY_DEATH_SOUND, Sound.class);
+        playerHurtSound = LevelAssets.getOrNull(assets, LevelAssets.PLAYER_HURT_SOUND, Sound.class);
 
-            Gdx.app.log("SOUND", "Звуки загружены");
-        } catch (Exception e) {
-            Gdx.app.error("SOUND", "Ошибка загрузки звуков", e);
-        }
+        Gdx.app.log("SOUND", "Звуки загружены");
     }
 
     private void createUI() {
@@ -227,15 +307,18 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
         statsTable.top().left();
         statsTable.pad(10);
 
-        scoreLabel = new Label("Score: 0", skin);
-        hpLabel = new Label("HP: 100/100", skin);
-        expLabel = new Label("EXP: 0", skin);
+        scoreLabel = new HudLabel("Score: ", skin);
+        hpLabel = new HudLabel("HP: ", skin);
+        expLabel = new HudLabel("EXP: ", skin);
+        scoreLabel.set(score);
+        hpLabel.set(player.health, playerStats.getHp());
+        expLabel.set(playerStats.getExperience());
 
-        statsTable.add(scoreLabel).left().padBottom(5);
+        statsTable.add(scoreLabel.getLabel()).left().padBottom(5);
         statsTable.row();
-        statsTable.add(hpLabel).left().padBottom(5);
+        statsTable.add(hpLabel.getLabel()).left().padBottom(5);
         statsTable.row();
-        statsTable.add(expLabel).left();
+        statsTable.add(expLabel.getLabel()).left();
 
         uiStage.addActor(statsTable);
     }
@@ -355,6 +438,7 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
                 debugMode = debugCheck.isChecked();
+                profiler.setOverlayVisible(debugMode);
             }
         });
 
@@ -389,83 +473,34 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
             return;
         }
 
-        int collisionCount = 0;
-        for (int x = 0; x < layer.getWidth(); x++) {
-            for (int y = 0; y < layer.getHeight(); y++) {
-                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
-                if (cell != null && cell.getTile() != null) {
-                    BodyDef bodyDef = new BodyDef();
-                    bodyDef.type = BodyDef.BodyType.StaticBody;
-                    bodyDef.position.set((x + 0.5f) * layer.getTileWidth() / PPM,
-                        (y + 0.5f) * layer.getTileHeight() / PPM);
-
-                    Body body = world.createBody(bodyDef);
-
-                    PolygonShape shape = new PolygonShape();
-                    shape.setAsBox(layer.getTileWidth() / 2f / PPM, layer.getTileHeight() / 2f / PPM);
-
-                    FixtureDef fixtureDef = new FixtureDef();
-                    fixtureDef.shape = shape;
-                    fixtureDef.friction = 0.5f;
-                    fixtureDef.restitution = 0f;
-
-                    Fixture fixture = body.createFixture(fixtureDef);
-                    fixture.setUserData("collision");
-                    shape.dispose();
-
-                    collisionCount++;
-                }
-            }
-        }
-        Gdx.app.log("INFO", "Создано коллизий: " + collisionCount);
+        // Склеиваем тайлы в прямоугольники вместо тела на каждую клетку
+        new TileCollisionBuilder(world, PPM).build(layer);
+        // Из того же слоя - граф, по которому наземные враги ходят между платформами
+        navGraph = NavGraph.build(layer, PPM);
     }
 
     private void setupContactListener() {
-        world.setContactListener(new ContactListener() {
+        // Ноги считают касания: на стыке двух тайлов один endContact не сбрасывает "на земле"
+        ContactRouter.Handler footHandler = new ContactRouter.Handler() {
             @Override
-            public void beginContact(Contact contact) {
-                Fixture a = contact.getFixtureA();
-                Fixture b = contact.getFixtureB();
-
-                Object userDataA = a.getUserData();
-                Object userDataB = b.getUserData();
-
-                if (userDataA != null && userDataA.equals("foot") ||
-                    userDataB != null && userDataB.equals("foot")) {
-                    playerGrounded = true;
-                }
-
-                if (("player".equals(userDataA) && "enemy".equals(userDataB)) ||
-                    ("enemy".equals(userDataA) && "player".equals(userDataB))) {
-                    if (player.alive) {
-                        player.takeDamage(10);
-                        Vector2 pushDir = player.body.getPosition().sub(
-                            "player".equals(userDataA) ?
-                                b.getBody().getPosition() :
-                                a.getBody().getPosition()
-                        ).nor();
-                        player.body.applyLinearImpulse(pushDir.scl(5f), player.body.getWorldCenter(), true);
-                    }
-                }
+            public void begin(Contact contact, Fixture foot, Fixture ground) {
+                footContacts++;
             }
 
             @Override
-            public void endContact(Contact contact) {
-                Fixture a = contact.getFixtureA();
-                Fixture b = contact.getFixtureB();
-
-                Object userDataA = a.getUserData();
-                Object userDataB = b.getUserData();
-
-                if (userDataA != null && userDataA.equals("foot") ||
-                    userDataB != null && userDataB.equals("foot")) {
-                    playerGrounded = false;
-                }
+            public void end(Contact contact, Fixture foot, Fixture ground) {
+                footContacts--;
             }
-
-            @Override public void preSolve(Contact contact, Manifold oldManifold) {}
-            @Override public void postSolve(Contact contact, ContactImpulse impulse) {}
-        });
+        };
+
+        world.setContactListener(new ContactRouter()
+            .on(FixtureType.PLAYER_FOOT, FixtureType.WORLD, footHandler)
+            .on(FixtureType.PLAYER, FixtureType.ENEMY, (contact, playerFixture, enemyFixture) -> {
+                if (!player.alive) return;
+                player.takeDamage(10);
+                knockback.set(player.body.getPosition()).sub(enemyFixture.getBody().getPosition()).nor().scl(5f);
+                player.body.applyLinearImpulse(knockback, player.body.getWorldCenter(), true);
+            }));
     }
 
     private void createEnemiesFromTiled() {
@@ -480,7 +515,7 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
                 float y = objY / PPM;
 
                 String enemyType = obj.getProperties().get("type", "zapper", String.class);
-                enemies.add(new Enemy(world, new Vector2(x, y), enemyType));
+                enemyFactory.create(new Vector2(x, y), enemyType);
             }
         }
 
@@ -495,7 +530,7 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
                 float y = objY / PPM;
 
                 String enemyType = obj.getProperties().get("type", "wheel", String.class);
-                enemies.add(new Enemy(world, new Vector2(x, y), enemyType));
+                enemyFactory.create(new Vector2(x, y), enemyType);
             }
         }
     }
@@ -504,61 +539,100 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
     public void render(float delta) {
         if (isPaused) {
             ScreenUtils.clear(0.1f, 0.1f, 0.15f, 1);
+            profiler.begin(FrameProfiler.Phase.MAP);
             renderer.render();
+            profiler.end(FrameProfiler.Phase.MAP);
+            profiler.begin(FrameProfiler.Phase.UI);
             uiStage.act(delta);
             uiStage.draw();
+            profiler.end(FrameProfiler.Phase.UI);
+            profiler.endFrame(0);
+            profiler.drawOverlay();
             return;
         }
 
         ScreenUtils.clear(0.1f, 0.1f, 0.15f, 1);
 
-        world.step(1/60f, 6, 2);
+        // Кадр симуляции задают кнопки и delta: при воспроизведении берём их из записи
+        if (playback != null) {
+            if (playback.isFinished()) {
+                playback = null;
+                input.clear();
+            } else {
+                delta = playback.next(input);
+            }
+        }
+        if (recording != null) recording.add(delta, input.getButtons());
+        applyActions();
+
+        profiler.begin(FrameProfiler.Phase.PHYSICS);
+        physicsStepper.update(delta, savePhysicsPositions);
+        profiler.end(FrameProfiler.Phase.PHYSICS);
+        game.getLevelPrefetcher().update();
 
         playerAttackTimer += delta;
 
         statsUpdateTimer += delta;
         if (statsUpdateTimer >= STATS_UPDATE_INTERVAL) {
-            playerStats = new PlayerStats(database);
             statsUpdateTimer = 0f;
-        }
 
-        player.update(delta, leftPressed, rightPressed, jumpPressed, attackPressed, playerGrounded);
+            if (debugMode) {
+                Gdx.app.log("RENDER", "Вызовов отрисовки SpriteBatch за кадр: " + batchRenderCalls
+                    + (SpriteAtlas.isAtlasLoaded() ? " (атлас)" : " (отдельные текстуры)")
+                    + ", текстур спрайтов: " + SpriteAtlas.getLoadedTextureCount());
+                // Пары фикстур, чьи AABB пересекаются (после фильтра категорий)
+                Gdx.app.log("PHYSICS", "Контактов Box2D: " + world.getContactCount()
+                    + ", тел: " + world.getBodyCount()
+                    + ", активных врагов: " + enemyActivator.getActiveCount() + "/" + enemies.size());
+                Gdx.app.log("TILES", "Чанков: " + renderer.getChunksDrawn() + ", вершин из кэша: " + renderer.getVerticesDrawn()
+                    + " (SpriteBatch отправлял бы " + renderer.countBatchVertices() + " за кадр), draw calls: "
+                    + renderer.getRenderCalls());
+            }
+        }
 
-        for (Enemy enemy : enemies) {
-            if (enemy.alive) enemy.update(delta, player);
+        player.update(delta, input.isDown(PlayerInput.LEFT), input.isDown(PlayerInput.RIGHT),
+            input.isDown(PlayerInput.JUMP), input.isDown(PlayerInput.ATTACK), footContacts > 0);
+
+        // Камера с прошлого кадра: будим врагов рядом с ней, дальних усыпляем
+        profiler.begin(FrameProfiler.Phase.ENEMIES);
+        enemyActivator.update(camera, enemies);
+        enemyEngine.update(delta);
+        for (Entity enemy : enemies) {
+            if (!EnemyActivator.isActive(enemy)) continue;
+            Vector2 enemyPos = Mappers.body.get(enemy).body.getPosition();
+            enemyGrid.move(enemy, enemyPos.x, enemyPos.y);
         }
+        profiler.end(FrameProfiler.Phase.ENEMIES);
 
-        if (attackPressed && playerAttackTimer >= playerAttackCooldown && player.alive) {
+        if (input.isDown(PlayerInput.ATTACK) && playerAttackTimer >= playerAttackCooldown && player.alive) {
             boolean hit = false;
             Vector2 playerPos = player.body.getPosition();
-            for (Enemy enemy : enemies) {
-                if (!enemy.alive) continue;
-                if (playerPos.dst(enemy.body.getPosition()) <= playerAttackRange) {
-                    enemy.takeDamage(25);
-                    hit = true;
-                }
+            nearbyEnemies.clear();
+            enemyGrid.query(playerPos.x, playerPos.y, playerAttackRange, nearbyEnemies);
+            for (Entity enemy : nearbyEnemies) {
+                EnemyComponent target = Mappers.enemy.get(enemy);
+                if (!target.alive) continue;
+                target.takeDamage(25);
+                hit = true;
             }
             if (hit) {
                 playerAttackTimer = 0f;
             }
         }
 
-        for (int i = enemies.size - 1; i >= 0; i--) {
-            Enemy e = enemies.get(i);
-            if (!e.alive) {
-                enemies.removeIndex(i);
+        // removeEntity вне engine.update() сразу убирает врага из enemies, поэтому идём с конца
+        for (int i = enemies.size() - 1; i >= 0; i--) {
+            Entity e = enemies.get(i);
+            if (!Mappers.enemy.get(e).alive) {
+                enemyGrid.remove(e);
+                enemyFactory.destroy(e);
                 score++;
 
                 if (enemyDeathSound != null) {
                     enemyDeathSound.play(soundVolume);
                 }
 
-                try (java.sql.Statement stmt = database.getConnection().createStatement()) {
-                    stmt.executeUpdate("UPDATE player SET experience = experience + 10 WHERE id=1;");
-                    playerStats = new PlayerStats(database);
-                } catch (java.sql.SQLException ex) {
-                    ex.printStackTrace();
-                }
+                playerStats.addExperience(10);
             }
         }
 
@@ -567,37 +641,49 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
             respawnPlayer();
         }
 
+        // Рисуем тела между двумя последними шагами физики
+        float alpha = physicsStepper.getAlpha();
+        player.interpolate(alpha);
+
         updateCamera();
+        profiler.begin(FrameProfiler.Phase.MAP);
         renderer.setView(camera);
         renderer.render();
+        profiler.end(FrameProfiler.Phase.MAP);
 
+        profiler.begin(FrameProfiler.Phase.SPRITES);
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
         player.render(batch);
-        for (Enemy enemy : enemies) enemy.render(batch);
+        enemyRenderSystem.render(batch, alpha);
         batch.end();  // Закрываем batch
+        batchRenderCalls = batch.renderCalls;
+        profiler.end(FrameProfiler.Phase.SPRITES);
 
-// Обновляем статистику для таблицы
-        scoreLabel.setText("Score: " + score);
-        hpLabel.setText("HP: " + player.health + "/" + playerStats.getHp());
-        expLabel.setText("EXP: " + playerStats.getExperience());
+        // Статистика для таблицы: HudLabel пересобирает текст, только если числа изменились
+        scoreLabel.set(score);
+        hpLabel.set(player.health, playerStats.getHp());
 
+        profiler.begin(FrameProfiler.Phase.UI);
         uiStage.act(delta);
         uiStage.draw();
+        profiler.end(FrameProfiler.Phase.UI);
 
         if (debugMode) debugRenderer.render(world, camera.combined);
+        profiler.endFrame(batchRenderCalls);
+        profiler.drawOverlay();
 
 // ===== ВАЖНО: Проверка на завершение уровня =====
-        if (enemies.size == 0) {
+        if (enemies.size() == 0) {
             Gdx.app.log("LEVEL", "All enemies defeated! Returning to GameScreen");
-            game.setScreen(new GameScreen(game));
+            game.setScreen(game.getScreenManager().getHub());
         }
     }
 
     private void updateCamera() {
         float halfW = viewport.getWorldWidth()/2f;
         float halfH = viewport.getWorldHeight()/2f;
-        Vector2 pos = player.body.getPosition();
+        Vector2 pos = player.getRenderPosition();
         float targetX = MathUtils.clamp(pos.x, halfW, mapWidth-halfW);
         float targetY = MathUtils.clamp(pos.y, halfH, mapHeight-halfH);
 
@@ -606,15 +692,21 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
         camera.update();
     }
 
+    private void savePhysicsPositions() {
+        player.savePosition();
+        enemyRenderSystem.savePositions();
+    }
+
     private void respawnPlayer() {
         if (playerSpawn == null) return;
         player.body.setTransform(playerSpawn, 0);
         player.body.setLinearVelocity(0, 0);
+        // Спящее тело не пересчитывает контакты - без этого старые касания ног остались бы в счётчике
+        player.body.setAwake(true);
+        player.resetInterpolation();
 
-        playerStats = new PlayerStats(database);
         player.health = playerStats.getHp();
         player.alive = true;
-        playerGrounded = false;
 
         if (playerHurtSound != null) {
             playerHurtSound.play(soundVolume);
@@ -637,60 +729,83 @@ public class PlayingScreen extends ScreenAdapter implements InputProcessor {
 
     @Override
     public void dispose() {
-        map.dispose();
         renderer.dispose();
+        // Тела врагов удаляются из мира, поэтому до world.dispose()
+        for (int i = enemies.size() - 1; i >= 0; i--) enemyFactory.destroy(enemies.get(i));
+        enemyFactory.dispose();
+        LevelAssets.LEVEL_1.releaseEnemyAnimations();
+        enemyEngine.removeAllSystems();
         world.dispose();
         debugRenderer.dispose();
+        profiler.dispose();
         batch.dispose();
         player.dispose();
-        for (Enemy enemy : enemies) enemy.dispose();
         if (font != null) font.dispose();
-        if (database != null) database.close();
 
-        if (backgroundMusic != null) backgroundMusic.dispose();
-        if (attackSound != null) attackSound.dispose();
-        if (jumpSound != null) jumpSound.dispose();
-        if (enemyDeathSound != null) enemyDeathSound.dispose();
-        if (playerHurtSound != null) playerHurtSound.dispose();
+        // Карту, звуки и скин выгружает AssetManager (с учётом ссылок)
+        if (backgroundMusic != null) backgroundMusic.stop();
 
+        playerStats.removeListener(statsListener);
         uiStage.dispose();
-        skin.dispose();
+        LevelAssets.LEVEL_1.unload(assets);
     }
 
+    // ===== Запись и воспроизведение ввода =====
+
     @Override
-    public boolean keyDown(int keycode) {
-        if (keycode == Input.Keys.A) leftPressed = true;
-        if (keycode == Input.Keys.D) rightPressed = true;
-        if (keycode == Input.Keys.SPACE) jumpPressed = true;
-        if (keycode == Input.Keys.SHIFT_LEFT || keycode == Input.Keys.SHIFT_RIGHT) attackPressed = true;
-
-        if (keycode == Input.Keys.NUM_1) {
-            if (playerStats.upgradeHp()) {
-                player.health = playerStats.getHp();
-            }
-        }
-        if (keycode == Input.Keys.NUM_2) {
-            if (playerStats.upgradeStrength()) {
-            }
+    public void startPlayback(InputRecording replay) {
+        playback = new InputPlayback(replay);
+        input.clear();
+    }
+
+    @Override
+    public boolean isPlayingBack() {
+        return playback != null && !playback.isFinished();
+    }
+
+    @Override
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    // Прокачка идёт через маску ввода, поэтому попадает в запись и повторяется в том же кадре
+    private void applyActions() {
+        if (input.isDown(PlayerInput.UPGRADE_HP) && playerStats.upgradeHp()) {
+            player.health = playerStats.getHp();
         }
-        if (keycode == Input.Keys.NUM_3) {
-            if (playerStats.upgradeSpeed()) {
-            }
+        if (input.isDown(PlayerInput.UPGRADE_STRENGTH)) playerStats.upgradeStrength();
+        if (input.isDown(PlayerInput.UPGRADE_SPEED)) playerStats.upgradeSpeed();
+        if (input.isDown(PlayerInput.UPGRADE_DEFENSE)) playerStats.upgradeDefense();
+        input.clearActions();
+    }
+
+    private void saveRecording() {
+        if (recording == null) {
+            Gdx.app.log("REPLAY", "Запись ввода выключена, запустите с -D" + InputRecording.ENABLED_PROPERTY + "=true");
+            return;
         }
-        if (keycode == Input.Keys.NUM_4) {
-            if (playerStats.upgradeDefense()) {
-            }
+        FileHandle file = Gdx.files.local("recordings/level1-" + TimeUtils.millis() + ".rec");
+        try {
+            recording.save(file);
+            Gdx.app.log("REPLAY", "Ввод с начала уровня сохранён: " + file.path() + " (" + recording.size() + " кадров)");
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("REPLAY", "Не удалось сохранить запись ввода", e);
         }
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        if (playback == null) input.keyDown(keycode);
+        if (keycode == Input.Keys.F6) saveRecording();
+
+        if (keycode == Input.Keys.F9) profiler.toggleCsv();
 
         return true;
     }
 
     @Override
     public boolean keyUp(int keycode) {
-        if (keycode == Input.Keys.A) leftPressed = false;
-        if (keycode == Input.Keys.D) rightPressed = false;
-        if (keycode == Input.Keys.SPACE) jumpPressed = false;
-        if (keycode == Input.Keys.SHIFT_LEFT || keycode == Input.Keys.SHIFT_RIGHT) attackPressed = false;
+        if (playback == null) input.keyUp(keycode);
         return true;
     }
 
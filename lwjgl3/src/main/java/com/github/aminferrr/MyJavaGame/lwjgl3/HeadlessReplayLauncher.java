@@ -0,0 +1,139 @@
+package com.github.aminferrr.MyJavaGame.lwjgl3;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.github.aminferrr.MyJavaGame.Database;
+import com.github.aminferrr.MyJavaGame.FrameProfiler;
+import com.github.aminferrr.MyJavaGame.HeadlessGL;
+import com.github.aminferrr.MyJavaGame.LevelAssets;
+import com.github.aminferrr.MyJavaGame.Main;
+import com.github.aminferrr.MyJavaGame.elements.PlayerStats;
+import com.github.aminferrr.MyJavaGame.input.InputRecording;
+import com.github.aminferrr.MyJavaGame.input.ReplayableScreen;
+import com.github.aminferrr.MyJavaGame.screens.Level2Screen;
+import com.github.aminferrr.MyJavaGame.screens.LoadingScreen;
+import com.github.aminferrr.MyJavaGame.screens.PlayingScreen;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Replays a recorded input file (F6 in a level saves one to recordings/) through the level
+ * on the headless backend, as fast as the CPU allows, and prints simulated frames per second,
+ * per-phase frame cost and allocation per frame. The recorded deltas, buttons and stat upgrades
+ * drive the simulation, starting from the player stats stored in the recording, so two runs of
+ * the same file simulate the same frames and their numbers can be compared.
+ *
+ * Usage: HeadlessReplayLauncher <recording.rec>, run from the assets folder
+ * (./gradlew :lwjgl3:replayBenchmark -Precording=recordings/level1-....rec).
+ */
+public class HeadlessReplayLauncher {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: HeadlessReplayLauncher <recording.rec>");
+            System.exit(1);
+        }
+
+        // A throwaway save file: the level starts from the recorded stats and saves them like a real run
+        File database = File.createTempFile("replay-", ".db");
+        database.deleteOnExit();
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = 0; // no sleeping between frames
+        new HeadlessApplication(new ReplayGame(args[0], database.getPath()), configuration);
+    }
+
+    private static final class ReplayGame extends Main {
+
+        private final String recordingPath;
+        private final String databasePath;
+        private InputRecording recording;
+        private ReplayableScreen level;
+        private FrameProfiler profiler;
+        private long startNanos;
+
+        ReplayGame(String recordingPath, String databasePath) {
+            this.recordingPath = recordingPath;
+            this.databasePath = databasePath;
+        }
+
+        @Override
+        public void create() {
+            HeadlessGL.install();
+            recording = InputRecording.load(Gdx.files.absolute(new File(recordingPath).getAbsolutePath()));
+            super.create();
+        }
+
+        @Override
+        protected Database createDatabase() {
+            return new Database(databasePath);
+        }
+
+        @Override
+        protected Screen createFirstScreen() {
+            LevelAssets levelAssets = LevelAssets.forName(recording.getLevel());
+            if (levelAssets == null) {
+                throw new IllegalArgumentException("Unknown level in recording: " + recording.getLevel());
+            }
+            return new LoadingScreen(this, levelAssets, () -> {
+                level = levelAssets == LevelAssets.LEVEL_2 ? new Level2Screen(this) : new PlayingScreen(this);
+                level.startPlayback(recording);
+                return level;
+            });
+        }
+
+        @Override
+        public void render() {
+            super.render();
+            if (level == null) return;
+
+            // The level was just built; its frames start with the next render()
+            if (profiler == null) {
+                profiler = level.getProfiler();
+                profiler.setCollecting(true);
+                profiler.resetTotals();
+                startNanos = TimeUtils.nanoTime();
+                return;
+            }
+
+            // Finished, or the level was completed and the game went back to the hub
+            if (!level.isPlayingBack() || getScreen() != level) {
+                report(TimeUtils.nanoTime() - startNanos);
+                Gdx.app.exit();
+                level = null;
+            }
+        }
+
+        private void report(long elapsedNanos) {
+            long frames = profiler.getTotalFrames();
+            double seconds = elapsedNanos / 1e9;
+            double gameSeconds = 0;
+            for (int i = 0; i < Math.min(frames, recording.size()); i++) gameSeconds += recording.getDelta(i);
+            System.out.println();
+            System.out.println("Replay " + recordingPath + " (" + recording.getLevel() + ")");
+            System.out.printf("Frames: %d of %d recorded, %.1f s of game time%n",
+                frames, recording.size(), recording.getDuration());
+            System.out.printf("Simulated: %.0f frames/s (%.1f ms/frame, %.1fx real time)%n",
+                frames / seconds, seconds * 1000 / Math.max(1, frames), gameSeconds / seconds);
+            for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+                System.out.printf("  %-8s %.3f ms/frame", phase.name().toLowerCase(),
+                    profiler.getTotalNanos(phase) / 1e6 / Math.max(1, frames));
+                long phaseAllocated = profiler.getTotalAllocatedBytes(phase);
+                if (phaseAllocated >= 0) System.out.printf(", %d B/frame allocated", phaseAllocated / Math.max(1, frames));
+                System.out.println();
+            }
+            PlayerStats stats = getPlayerStats();
+            System.out.printf("Player at end: hp %d, strength %d, speed %d, defense %d, experience %d%n",
+                stats.getHp(), stats.getStrength(), stats.getSpeed(), stats.getDefense(), stats.getExperience());
+            long allocated = profiler.getTotalAllocatedBytes();
+            if (allocated >= 0) {
+                System.out.printf("Allocated: %.1f KB/frame, GC: %d collections, %d ms%n",
+                    allocated / 1024.0 / Math.max(1, frames), profiler.getTotalGcCount(), profiler.getTotalGcMillis());
+            }
+        }
+    }
+}